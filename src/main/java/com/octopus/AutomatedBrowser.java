@@ -47,6 +47,13 @@ public interface AutomatedBrowser {
      */
     void destroy();
 
+    /**
+     * Return the browser to a clean state without relaunching it. This clears cookies, storage, IndexedDB,
+     * service workers and caches, closes any extra windows, restores the window size, and removes any proxy rules.
+     * An exception is thrown if the browser could not be reset, in which case it should be destroyed.
+     */
+    void reset();
+
     /**
      * Sleep for a period of seconds.
      *
@@ -1248,9 +1255,8 @@ public interface AutomatedBrowser {
     void elementHighlightIfExists(String location, String lift, String locator, String offset, int waitTime, String ifExistsOption);
 
     /**
-     * Remove a highlight from an element by reapplying the style on the element before the highlight was applied.
-     * Note that this method will remove any styling changes between the highlight being applied and then removed, so it
-     * is best to apply the highlight, take a screenshot and remove the highlight without any other interactions inbetween.
+     * Remove a highlight from an element. The highlighted element is remembered when the highlight is applied, so the
+     * element is not looked up again, and any styling changes made while the element was highlighted are kept.
      *
      * @param locator        The element locator.
      * @param ifExistsOption If this is not blank then silently fail if the element does not exist.
@@ -1258,9 +1264,8 @@ public interface AutomatedBrowser {
     void removeElementHighlight(String locator, String ifExistsOption);
 
     /**
-     * Remove a highlight from an element by reapplying the style on the element before the highlight was applied.
-     * Note that this method will remove any styling changes between the highlight being applied and then removed, so it
-     * is best to apply the highlight, take a screenshot and remove the highlight without any other interactions inbetween.
+     * Remove a highlight from an element. The highlighted element is remembered when the highlight is applied, so the
+     * element is not looked up again, and any styling changes made while the element was highlighted are kept.
      *
      * @param locator        The element locator.
      * @param waitTime       The amount of time to wait for the element.
@@ -1268,6 +1273,30 @@ public interface AutomatedBrowser {
      */
     void removeElementHighlight(String locator, int waitTime, String ifExistsOption);
 
+    /**
+     * Apply a highlight to a number of elements, updating the page in a single round trip.
+     *
+     * @param location       Set to either "inside" or "outside".
+     * @param lift           If not blank, change the elements z-index to bring it above other elements (this option is experimental).
+     * @param locators       The element locators.
+     * @param offset         If not blank, use this offset if the location is set to "outside".
+     * @param waitTime       The amount of time to wait for all the elements.
+     * @param ifExistsOption If this is not blank then silently skip any element that does not exist.
+     */
+    void elementsHighlightIfExists(String location, String lift, List<String> locators, String offset, int waitTime, String ifExistsOption);
+
+    /**
+     * Remove the highlight from a number of elements in a single round trip.
+     *
+     * @param locators The locators that were used to apply the highlights.
+     */
+    void removeElementHighlights(List<String> locators);
+
+    /**
+     * Remove every highlight from the page.
+     */
+    void removeAllElementHighlights();
+
     /**
      * Verify an element exists in the page.
      *
@@ -1383,6 +1412,19 @@ public interface AutomatedBrowser {
      */
     void alterResponseFrom(String url, int responseCode, String responseBody);
 
+    /**
+     * If BrowserMob is enabled, remove the rules added by blockRequestTo() or alterResponseFrom() for the supplied URL.
+     * Rules are otherwise removed when the browser is reset.
+     *
+     * @param url The URL the rules were added with.
+     */
+    void removeRequestRules(String url);
+
+    /**
+     * If BrowserMob is enabled, remove all the rules added by blockRequestTo() or alterResponseFrom().
+     */
+    void removeAllRequestRules();
+
     /**
      * @return A list of HTTP errors in the network traffic recorded by captureHarFile() or captureCompleteHarFile().
      */
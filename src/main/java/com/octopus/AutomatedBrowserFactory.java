@@ -1,210 +1,88 @@
 package com.octopus;
 
-import com.octopus.decorators.*;
+import com.octopus.utils.BrowserPool;
+import com.octopus.utils.ConfigurationService;
+import com.octopus.utils.DecoratorChainBuilder;
+import com.octopus.utils.impl.BrowserPoolImpl;
+import com.octopus.utils.impl.ConfigurationServiceImpl;
+import com.octopus.utils.impl.DecoratorChainBuilderImpl;
 
 /**
  * A factory to create AutomatedBrowser instances with various configurations.
  */
 public class AutomatedBrowserFactory {
-
     /**
-     * Return a preconfigured AutomatedBrowser instance.
-     *
-     * @param browser The name of the AutomatedBrowser to create
-     * @return a preconfigured AutomatedBrowser instance
+     * The shared DecoratorChainBuilderImpl instance.
      */
-    public AutomatedBrowser getAutomatedBrowser(final String browser) {
-
-        if ("Chrome".equalsIgnoreCase(browser)) {
-            return getChromeBrowser(false);
-        }
-
-        if ("ChromeHeadless".equalsIgnoreCase(browser)) {
-            return getChromeBrowser(true);
-        }
-
-        if ("Firefox".equalsIgnoreCase(browser)) {
-            return getFirefoxBrowser(false);
-        }
-
-        if ("FirefoxHeadless".equalsIgnoreCase(browser)) {
-            return getFirefoxBrowser(true);
-        }
-
-        if ("ChromeNoImplicitWait".equalsIgnoreCase(browser)) {
-            return getChromeBrowserNoImplicitWait();
-        }
-
-        if ("ChromeNoImplicitWaitNoProxy".equalsIgnoreCase(browser)) {
-            return getChromeBrowserNoImplicitWaitNoProxy();
-        }
-
-        if ("FirefoxNoImplicitWait".equalsIgnoreCase(browser)) {
-            return getFirefoxBrowserNoImplicitWait();
-        }
-
-        if ("FirefoxNoImplicitWaitNoProxy".equalsIgnoreCase(browser)) {
-            return getFirefoxBrowserNoImplicitWaitNoProxy();
-        }
-
-        if ("BrowserStackEdge".equalsIgnoreCase(browser)) {
-            return getBrowserStackEdge();
-        }
-
-        if ("BrowserStackEdgeNoImplicitWait".equalsIgnoreCase(browser)) {
-            return getBrowserStackEdgeNoImplicitWait();
-        }
-
-        if ("BrowserStackAndroid".equalsIgnoreCase(browser)) {
-            return getBrowserStackAndroid();
-        }
-
-        if ("BrowserStackAndroidNoImplicitWait".equalsIgnoreCase(browser)) {
-            return getBrowserStackAndroidNoImplicitWait();
-        }
-
-        if ("ChromeHeadlessNoImplicitWaitLambda".equalsIgnoreCase(browser)) {
-            return getChromeBrowserNoImplicitWaitLambda(true);
-        }
-
-        if ("ChromeNoImplicitWaitLambda".equalsIgnoreCase(browser)) {
-            return getChromeBrowserNoImplicitWaitLambda(false);
-        }
-
-        throw new IllegalArgumentException("Unknown browser " + browser);
-    }
-
-    private AutomatedBrowser getChromeBrowser(final boolean headless) {
-        return new ChromeDecorator(headless,
-                new ImplicitWaitDecorator(10,
-                        new BrowserMobDecorator(
-                                new MouseMovementDecorator(
-                                        new HighlightDecorator(
-                                                new WebDriverDecorator()
-                                        )
-                                )
-                        )
-                )
-        );
-    }
-
-    private AutomatedBrowser getFirefoxBrowser(final boolean headless) {
-        return new FirefoxDecorator(headless,
-                new ImplicitWaitDecorator(10,
-                        new BrowserMobDecorator(
-                                new MouseMovementDecorator(
-                                        new HighlightDecorator(
-                                                new WebDriverDecorator()
-                                        )
-                                )
-                        )
-                )
-        );
-    }
-
-    private AutomatedBrowser getChromeBrowserNoImplicitWait() {
-        return new ChromeDecorator(
-                new BrowserMobDecorator(
-                        new MouseMovementDecorator(
-                                new HighlightDecorator(
-                                        new WebDriverDecorator()
-                                )
-                        )
-                )
-        );
-    }
-
-    private AutomatedBrowser getChromeBrowserNoImplicitWaitNoProxy() {
-        return new ChromeDecorator(
-            new MouseMovementDecorator(
-                    new HighlightDecorator(
-                            new WebDriverDecorator()
-                    )
-            )
-        );
-    }
+    private static final DecoratorChainBuilder DECORATOR_CHAIN_BUILDER = new DecoratorChainBuilderImpl();
+    /**
+     * The shared ConfigurationServiceImpl instance.
+     */
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
+    /**
+     * The shared pool of initialised browsers. The pool is disabled unless the browserPoolSize
+     * system property is set.
+     */
+    private static final BrowserPool BROWSER_POOL =
+            new BrowserPoolImpl(browser -> new AutomatedBrowserFactory().getAutomatedBrowser(browser));
 
-    private AutomatedBrowser getFirefoxBrowserNoImplicitWait() {
-        return new FirefoxDecorator(
-                new BrowserMobDecorator(
-                        new MouseMovementDecorator(
-                                new HighlightDecorator(
-                                        new WebDriverDecorator()
-                                )
-                        )
-                )
-        );
+    /**
+     * @return The shared browser pool
+     */
+    public static BrowserPool getBrowserPool() {
+        return BROWSER_POOL;
     }
 
-    private AutomatedBrowser getFirefoxBrowserNoImplicitWaitNoProxy() {
-        return new FirefoxDecorator(
-                new MouseMovementDecorator(
-                        new HighlightDecorator(
-                                new WebDriverDecorator()
-                        )
-                )
-        );
+    static {
+        // Idle browsers were built for the old configuration, which may have left out different decorators
+        CONFIGURATION_SERVICE.addListener((previous, current) -> {
+            if (previous.isMoveCursorToElement() != current.isMoveCursorToElement()
+                    || previous.isDisableHighlights() != current.isDisableHighlights()) {
+                BROWSER_POOL.destroyIdleBrowsers();
+            }
+        });
     }
 
-    private AutomatedBrowser getBrowserStackEdge() {
-        return new BrowserStackDecorator(
-                new BrowserStackEdgeDecorator(
-                        new ImplicitWaitDecorator(10,
-                                new MouseMovementDecorator(
-                                        new HighlightDecorator(
-                                                new WebDriverDecorator()
-                                        )
-                                )
-                        )
-                )
-        );
-    }
+    /**
+     * Return an initialised AutomatedBrowser instance, leasing it from the browser pool if the pool is enabled.
+     *
+     * @param browser The name of the AutomatedBrowser to create
+     * @return an initialised AutomatedBrowser instance
+     */
+    public AutomatedBrowser getInitialisedAutomatedBrowser(final String browser) {
+        if (BROWSER_POOL.isEnabled()) {
+            return BROWSER_POOL.lease(browser);
+        }
 
-    private AutomatedBrowser getBrowserStackEdgeNoImplicitWait() {
-        return new BrowserStackDecorator(
-                new BrowserStackEdgeDecorator(
-                        new MouseMovementDecorator(
-                                new HighlightDecorator(
-                                        new WebDriverDecorator()
-                                )
-                        )
-                )
-        );
+        final AutomatedBrowser automatedBrowser = getAutomatedBrowser(browser);
+        automatedBrowser.init();
+        return automatedBrowser;
     }
 
-    private AutomatedBrowser getBrowserStackAndroid() {
-        return new BrowserStackDecorator(
-                new BrowserStackAndroidDecorator(
-                        new ImplicitWaitDecorator(10,
-                                new MouseMovementDecorator(
-                                        new HighlightDecorator(
-                                                new WebDriverDecorator()
-                                        )
-                                )
-                        )
-                )
-        );
-    }
+    /**
+     * Return a browser created by getInitialisedAutomatedBrowser(), either returning it to the browser pool
+     * or destroying it.
+     *
+     * @param automatedBrowser The browser to release
+     */
+    public void releaseAutomatedBrowser(final AutomatedBrowser automatedBrowser) {
+        if (automatedBrowser == null) {
+            return;
+        }
 
-    private AutomatedBrowser getBrowserStackAndroidNoImplicitWait() {
-        return new BrowserStackDecorator(
-                new BrowserStackAndroidDecorator(
-                        new MouseMovementDecorator(
-                                new HighlightDecorator(
-                                        new WebDriverDecorator()
-                                )
-                        )
-                )
-        );
+        if (!BROWSER_POOL.release(automatedBrowser)) {
+            automatedBrowser.destroy();
+        }
     }
 
-    private AutomatedBrowser getChromeBrowserNoImplicitWaitLambda(final boolean headless) {
-        return new ChromeLambdaDecorator(headless,
-                new MouseMovementDecorator(
-                        new HighlightDecorator(
-                                new WebDriverDecorator()
-                        )
-                )
-        );
+    /**
+     * Return a preconfigured AutomatedBrowser instance. The decorators making up each browser are defined in
+     * the browser-profiles.properties file.
+     *
+     * @param browser The name of the AutomatedBrowser to create
+     * @return a preconfigured AutomatedBrowser instance
+     */
+    public AutomatedBrowser getAutomatedBrowser(final String browser) {
+        return DECORATOR_CHAIN_BUILDER.buildChain(browser);
     }
-}
\ No newline at end of file
+}
@@ -16,6 +16,10 @@ public class Constants {
         add("com.octopus.stephandlers.impl.SlackStepHandler");
         add("--plugin");
         add("com.octopus.stephandlers.impl.StepPauseHandler");
+        add("--plugin");
+        add("com.octopus.stephandlers.impl.StepDeadlineHandler");
+        add("--plugin");
+        add("com.octopus.stephandlers.impl.StepElementCacheHandler");
     }};
 
     /**
@@ -33,6 +37,17 @@ public class Constants {
      */
     public static final String ALIAS_HEADER_PREFIX = "CucumberAlias-";
 
+    /**
+     * The prefix for request headers that define a setting, like CucumberOption-disableHighlights.
+     */
+    public static final String CONFIGURATION_HEADER_PREFIX = "CucumberOption-";
+
+    /**
+     * The prefix for environment variables that define a setting, like CucumberOption_disableHighlights. Shells and
+     * Lambda only allow letters, digits and underscores in environment variable names.
+     */
+    public static final String CONFIGURATION_ENV_PREFIX = "CucumberOption_";
+
     /**
      * The prefix for any messages sent out from event handlers.
      */
@@ -62,6 +77,13 @@ public class Constants {
      */
     public static final String NO_PROXY_LIST = "noProxyList";
 
+    /**
+     * The system property that can be set to write captured HAR entries to disk as they complete, rather than
+     * holding the whole HAR in memory until it is saved. When streaming, a HAR saved to a file ending in .gz is
+     * gzip compressed.
+     */
+    public static final String HAR_STREAMING = "harStreaming";
+
     /**
      * The system property that can be used to enable the mouse cursor to be moved
      * to the element being interacted with.
@@ -181,4 +203,131 @@ public class Constants {
      * by the "simple by" lookup.
      */
     public static final String SAVE_SCREENSHOTS_OF_MATCHED_ELEMENTS = "saveScreenshotsOfMatchedMethods";
+
+    /**
+     * The system property that defines how many initialised browsers to keep for each browser profile.
+     * A value of 0 disables the browser pool.
+     */
+    public static final String BROWSER_POOL_SIZE = "browserPoolSize";
+    /**
+     * The system property that defines how long, in seconds, to wait for a pooled browser to be returned
+     * before a new one is created.
+     */
+    public static final String BROWSER_POOL_LEASE_TIMEOUT = "browserPoolLeaseTimeout";
+    /**
+     * The default pooled browser lease timeout.
+     */
+    public static final int DEFAULT_BROWSER_POOL_LEASE_TIMEOUT = 60;
+    /**
+     * The system property that defines how many times a pooled browser can be leased before it is destroyed
+     * and replaced. A value of 0 means browsers are reused until they fail a health check.
+     */
+    public static final String BROWSER_POOL_MAX_REUSE = "browserPoolMaxReuse";
+
+    /**
+     * The system property that defines the number of Cucumber threads used to run scenarios in parallel.
+     * This is equivalent to passing the --threads option to Cucumber.
+     */
+    public static final String THREADS = "threads";
+
+    /**
+     * The system property that defines the number of worker JVMs to split the scenarios between. When set to a
+     * value greater than 1, this process becomes the coordinator that hands scenarios to the workers and merges
+     * their reports.
+     */
+    public static final String WORKERS = "workers";
+    /**
+     * The system property passed to worker JVMs that defines the port the coordinator is listening on.
+     */
+    public static final String WORKER_PORT = "workerPort";
+
+    /**
+     * The system property that can be set to share chromedriver and geckodriver services between browser
+     * sessions rather than starting a new driver process for each browser.
+     */
+    public static final String SHARE_DRIVER_SERVICES = "shareDriverServices";
+
+    /**
+     * The system property that can be set to build a warmed browser profile once and clone it for each
+     * browser session, rather than having each browser build a new profile.
+     */
+    public static final String PROFILE_TEMPLATES = "profileTemplates";
+    /**
+     * The system property that defines a comma separated list of URLs to load when building a profile
+     * template, pre-seeding the cache of every cloned profile.
+     */
+    public static final String PROFILE_TEMPLATE_WARM_URLS = "profileTemplateWarmUrls";
+    /**
+     * The system property that defines a Firefox profile directory to use as the template for every
+     * Firefox session.
+     */
+    public static final String FIREFOX_PROFILE_TEMPLATE = "firefoxProfileTemplate";
+
+    /**
+     * The system property that defines a file used to save the locator strategies learned by the "simple by"
+     * lookup, so they can be reused by the next run.
+     */
+    public static final String LOCATOR_STRATEGY_CACHE_FILE = "locatorStrategyCacheFile";
+    /**
+     * The system property that can be set to remember locator strategies per URL pattern rather than
+     * per locator.
+     */
+    public static final String LOCATOR_STRATEGY_CACHE_BY_URL = "locatorStrategyCacheByUrl";
+    /**
+     * The system property that can be set to have the "simple by" lookup resolve a locator against every
+     * strategy in a single script, rather than making a WebDriver request for each strategy.
+     */
+    public static final String SIMPLE_BY_SCRIPT = "simpleByScript";
+    /**
+     * The system property that can be set to have element lookups wait for DOM changes with a MutationObserver
+     * rather than polling WebDriver.
+     */
+    public static final String MUTATION_OBSERVER_WAITS = "mutationObserverWaits";
+
+    /**
+     * The system property that defines the maximum time, in seconds, that a step can spend waiting on elements.
+     * Every lookup and retry made by the step shares this budget. If this is not set, the budget is the wait time
+     * of the first lookup the step makes.
+     */
+    public static final String STEP_TIMEOUT = "stepTimeout";
+    /**
+     * The system property that can be set to remember the elements resolved during a step, so each decorator
+     * looking up the same locator doesn't wait for the element again.
+     */
+    public static final String STEP_ELEMENT_CACHE = "stepElementCache";
+
+    /**
+     * The system property that defines how often, in seconds, each locator is checked for matching more than
+     * one element.
+     */
+    public static final String MULTIPLE_ELEMENT_DIAGNOSTICS_INTERVAL = "multipleElementDiagnosticsInterval";
+    /**
+     * The default time, in seconds, between checks of each locator for matching more than one element.
+     */
+    public static final int DEFAULT_MULTIPLE_ELEMENT_DIAGNOSTICS_INTERVAL = 60;
+
+    /**
+     * The system property that defines the first interval, in milliseconds, between the polls made by element
+     * waits. Suffix the property with a browser name, like pollingInitialInterval.firefox, to set it for
+     * one browser.
+     */
+    public static final String POLLING_INITIAL_INTERVAL = "pollingInitialInterval";
+    /**
+     * The system property that defines how much the interval between polls grows after each poll.
+     */
+    public static final String POLLING_MULTIPLIER = "pollingMultiplier";
+    /**
+     * The system property that defines the maximum interval, in milliseconds, between polls.
+     */
+    public static final String POLLING_MAX_INTERVAL = "pollingMaxInterval";
+    /**
+     * The system property that defines the fraction, between 0 and 1, each poll interval is randomly adjusted by.
+     */
+    public static final String POLLING_JITTER = "pollingJitter";
+
+    /**
+     * The system property that defines a properties file of browser profiles. Profiles in this file are used in
+     * place of the built in profiles with the same name.
+     */
+    public static final String BROWSER_PROFILES_FILE = "browserProfilesFile";
 }
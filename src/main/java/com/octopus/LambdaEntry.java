@@ -5,12 +5,17 @@ import com.octopus.eventhandlers.EventHandler;
 import com.octopus.eventhandlers.impl.SeqLogging;
 import com.octopus.eventhandlers.impl.SlackWebHook;
 import com.octopus.eventhandlers.impl.UploadToS3;
+import com.octopus.utils.BinaryCache;
+import com.octopus.utils.ConfigurationService;
 import com.octopus.utils.EnvironmentAliasesProcessor;
-import com.octopus.utils.ZipUtils;
-import com.octopus.utils.impl.AutoDeletingTempDir;
+import com.octopus.utils.ProfileTemplateService;
+import com.octopus.utils.SystemPropertyUtils;
 import com.octopus.utils.impl.AutoDeletingTempFile;
+import com.octopus.utils.impl.BinaryCacheImpl;
+import com.octopus.utils.impl.ConfigurationServiceImpl;
 import com.octopus.utils.impl.EnvironmentAliasesProcessorImpl;
-import com.octopus.utils.impl.ZipUtilsImpl;
+import com.octopus.utils.impl.ProfileTemplateServiceImpl;
+import com.octopus.utils.impl.SystemPropertyUtilsImpl;
 import io.vavr.control.Try;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.math.NumberUtils;
@@ -24,6 +29,8 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -37,9 +44,26 @@ public class LambdaEntry {
     private static final EnvironmentAliasesProcessor ENVIRONMENT_ALIASES_PROCESSOR =
             new EnvironmentAliasesProcessorImpl();
     /**
-     * A shared ZipUtilsImpl instance.
+     * A shared SystemPropertyUtilsImpl instance.
      */
-    private static final ZipUtils ZIP_UTILS = new ZipUtilsImpl();
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * A shared ConfigurationServiceImpl instance.
+     */
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
+    /**
+     * The directory holding the downloaded Chrome and Chrome driver binaries. This is kept when the tmp
+     * directory is cleaned, so warm Lambda containers don't download the binaries again.
+     */
+    private static final File BINARY_CACHE_DIR = new File("/tmp/webdriver-binary-cache");
+    /**
+     * A shared BinaryCacheImpl instance.
+     */
+    private static final BinaryCache BINARY_CACHE = new BinaryCacheImpl(BINARY_CACHE_DIR);
+    /**
+     * A shared ProfileTemplateServiceImpl instance.
+     */
+    private static final ProfileTemplateService PROFILE_TEMPLATE_SERVICE = new ProfileTemplateServiceImpl();
     /**
      * Header to set the number of times to retry a feature.
      */
@@ -48,6 +72,11 @@ public class LambdaEntry {
      * Header to set the sleep time before retries.
      */
     private static final String RETRY_SLEEP_HEADER = "Test-Retry-Sleep";
+    /**
+     * Header to keep the browser alive between invocations of a warm Lambda. The value is the number of times
+     * the browser is reused before it is replaced.
+     */
+    private static final String REUSE_BROWSER_HEADER = "Test-Reuse-Browser";
     /**
      * All the event handlers we know about.
      */
@@ -66,6 +95,14 @@ public class LambdaEntry {
      */
     private static final String CHROME_DRIVER =
             "http://bamboo-support.s3.amazonaws.com/chrome-68-stable/chromedriver_linux64.zip";
+    /**
+     * The system property holding the optional SHA-256 checksum of the Chrome package.
+     */
+    private static final String CHROME_HEADLESS_PACKAGE_SHA256 = "chromeHeadlessPackageSha256";
+    /**
+     * The system property holding the optional SHA-256 checksum of the Chrome driver package.
+     */
+    private static final String CHROME_DRIVER_SHA256 = "chromeDriverSha256";
 
     /**
      * The Lambda entry point.
@@ -80,74 +117,80 @@ public class LambdaEntry {
 
         System.out.println("STARTED Cucumber Test ID " + input.getId());
 
-        cleanTmpFolder();
+        configureBrowserReuse(input);
+        CONFIGURATION_SERVICE.refresh(input.getHeaders());
+
+        // The files used by a browser kept from a previous invocation live in the tmp directory
+        if (AutomatedBrowserFactory.getBrowserPool().getIdleBrowserCount() == 0) {
+            cleanTmpFolder();
+        }
 
         File outputFile = null;
         File txtOutputFile = null;
         File htmlOutput = null;
         File junitOutput = null;
 
-        try (final AutoDeletingTempDir driverDirectory = new AutoDeletingTempDir(downloadChromeDriver())) {
-            try (final AutoDeletingTempDir chromeDirectory = new AutoDeletingTempDir(downloadChromeHeadless())) {
-                try (final AutoDeletingTempFile featureFile = new AutoDeletingTempFile(writeFeatureToFile(input.getFeature()))) {
-
-                    ENVIRONMENT_ALIASES_PROCESSOR.addHeaderVarsAsAliases(input.getHeaders());
-
-                    final int retryCount = NumberUtils.toInt(
-                            input.getHeaders().getOrDefault(RETRY_HEADER, "1"),
-                            1);
-
-                    final int retrySleep = NumberUtils.toInt(
-                            input.getHeaders().getOrDefault(RETRY_SLEEP_HEADER, "60"),
-                            60);
-
-                    int retValue = 0;
-
-                    for (int x = 0; x < retryCount; ++x) {
-                        outputFile = createCleanFile(outputFile, "output", ".json");
-                        txtOutputFile = createCleanFile(txtOutputFile, "output", ".txt");
-                        junitOutput = createCleanFile(junitOutput, "junit", ".xml");
-                        htmlOutput = createCleanDirectory(htmlOutput, "htmloutput");
-
-                        retValue = cucumber.api.cli.Main.run(
-                                new String[]{
-                                        "--monochrome",
-                                        "--strict",
-                                        "--glue", "com.octopus.decoratorbase",
-                                        "--plugin", "json:" + outputFile.toString(),
-                                        "--plugin", "pretty:" + txtOutputFile.toString(),
-                                        "--plugin", "html:" + htmlOutput.toString(),
-                                        "--plugin", "junit:" + junitOutput.toString(),
-                                        featureFile.getFile().getAbsolutePath()},
-                                Thread.currentThread().getContextClassLoader());
-                        if (retValue == 0) {
-                            break;
-                        }
-
-                        Try.run(() -> Thread.sleep(retrySleep));
+        try {
+            downloadBinaries();
+
+            try (final AutoDeletingTempFile featureFile = new AutoDeletingTempFile(writeFeatureToFile(input.getFeature()))) {
+
+                ENVIRONMENT_ALIASES_PROCESSOR.addHeaderVarsAsAliases(input.getHeaders());
+
+                final int retryCount = NumberUtils.toInt(
+                        input.getHeaders().getOrDefault(RETRY_HEADER, "1"),
+                        1);
+
+                final int retrySleep = NumberUtils.toInt(
+                        input.getHeaders().getOrDefault(RETRY_SLEEP_HEADER, "60"),
+                        60);
+
+                int retValue = 0;
+
+                for (int x = 0; x < retryCount; ++x) {
+                    outputFile = createCleanFile(outputFile, "output", ".json");
+                    txtOutputFile = createCleanFile(txtOutputFile, "output", ".txt");
+                    junitOutput = createCleanFile(junitOutput, "junit", ".xml");
+                    htmlOutput = createCleanDirectory(htmlOutput, "htmloutput");
+
+                    retValue = cucumber.api.cli.Main.run(
+                            new String[]{
+                                    "--monochrome",
+                                    "--strict",
+                                    "--glue", "com.octopus.decoratorbase",
+                                    "--plugin", "json:" + outputFile.toString(),
+                                    "--plugin", "pretty:" + txtOutputFile.toString(),
+                                    "--plugin", "html:" + htmlOutput.toString(),
+                                    "--plugin", "junit:" + junitOutput.toString(),
+                                    featureFile.getFile().getAbsolutePath()},
+                            Thread.currentThread().getContextClassLoader());
+                    if (retValue == 0) {
+                        break;
                     }
 
-                    System.out.println((retValue == 0 ? "SUCCEEDED" : "FAILED") + " Cucumber Test ID " + input.getId());
-
-                    final String featureFilePath = featureFile.getFile().getAbsolutePath();
-                    final String htmlOutputDir = htmlOutput.getAbsolutePath();
-                    final boolean status = retValue == 0;
-                    final String outputTextFile = FileUtils.readFileToString(txtOutputFile, Charset.defaultCharset());
-                    Arrays.stream(EVENT_HANDLERS).reduce(
-                            new HashMap<String, String>(),
-                            (results, handler) -> new HashMap<>(handler.finished(
-                                    input.getId(),
-                                    status,
-                                    featureFilePath,
-                                    outputTextFile,
-                                    htmlOutputDir,
-                                    input.getHeaders(),
-                                    results)),
-                            (a, b) -> a
-                    );
-
-                    return FileUtils.readFileToString(outputFile, Charset.defaultCharset());
+                    Try.run(() -> Thread.sleep(retrySleep));
                 }
+
+                System.out.println((retValue == 0 ? "SUCCEEDED" : "FAILED") + " Cucumber Test ID " + input.getId());
+
+                final String featureFilePath = featureFile.getFile().getAbsolutePath();
+                final String htmlOutputDir = htmlOutput.getAbsolutePath();
+                final boolean status = retValue == 0;
+                final String outputTextFile = FileUtils.readFileToString(txtOutputFile, Charset.defaultCharset());
+                Arrays.stream(EVENT_HANDLERS).reduce(
+                        new HashMap<String, String>(),
+                        (results, handler) -> new HashMap<>(handler.finished(
+                                input.getId(),
+                                status,
+                                featureFilePath,
+                                outputTextFile,
+                                htmlOutputDir,
+                                input.getHeaders(),
+                                results)),
+                        (a, b) -> a
+                );
+
+                return FileUtils.readFileToString(outputFile, Charset.defaultCharset());
             }
         } finally {
             FileUtils.deleteQuietly(outputFile);
@@ -155,10 +198,31 @@ public class LambdaEntry {
             FileUtils.deleteQuietly(htmlOutput);
             FileUtils.deleteQuietly(junitOutput);
 
+            if (AutomatedBrowserFactory.getBrowserPool().isEnabled()) {
+                System.out.println(AutomatedBrowserFactory.getBrowserPool().getStatistics());
+            }
+
             System.out.println("FINISHED Cucumber Test ID " + input.getId());
         }
     }
 
+    /**
+     * Enable a browser pool of one browser if the reuse header was set, so the browser closed at the end of
+     * this invocation is kept for the next one. Otherwise any browser kept from a previous invocation is destroyed.
+     */
+    private void configureBrowserReuse(final LambdaInput input) {
+        final int reuse = NumberUtils.toInt(input.getHeaders().getOrDefault(REUSE_BROWSER_HEADER, "0"), 0);
+
+        if (reuse > 0) {
+            System.setProperty(Constants.BROWSER_POOL_SIZE, "1");
+            System.setProperty(Constants.BROWSER_POOL_MAX_REUSE, String.valueOf(reuse));
+        } else {
+            System.clearProperty(Constants.BROWSER_POOL_SIZE);
+            System.clearProperty(Constants.BROWSER_POOL_MAX_REUSE);
+            AutomatedBrowserFactory.getBrowserPool().destroyIdleBrowsers();
+        }
+    }
+
     private File createCleanFile(final File last, final String prefix, final String suffix) throws IOException {
         FileUtils.deleteQuietly(last);
         return Files.createTempFile(prefix, suffix).toFile();
@@ -169,8 +233,30 @@ public class LambdaEntry {
         return Files.createTempDirectory(name).toFile();
     }
 
+    /**
+     * Download the Chrome driver and Chrome binaries in parallel, or reuse the copies cached by a previous
+     * invocation.
+     */
+    private void downloadBinaries() throws IOException {
+        final CompletableFuture<Void> driver = CompletableFuture.runAsync(() ->
+                Try.run(this::downloadChromeDriver).getOrElseThrow(ex -> new CompletionException(ex)));
+        final CompletableFuture<Void> chrome = CompletableFuture.runAsync(() ->
+                Try.run(this::downloadChromeHeadless).getOrElseThrow(ex -> new CompletionException(ex)));
+
+        try {
+            CompletableFuture.allOf(driver, chrome).join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
     private File downloadChromeDriver() throws IOException {
-        final File extractedDir = downloadAndExtractFile(CHROME_DRIVER, "chrome_driver");
+        final File extractedDir = BINARY_CACHE.getExtractedArchive(
+                CHROME_DRIVER,
+                SYSTEM_PROPERTY_UTILS.getPropertyEmptyAsNull(CHROME_DRIVER_SHA256));
         final String driver = extractedDir.getAbsolutePath() + "/chromedriver";
         System.setProperty("webdriver.chrome.driver", driver);
         new File(driver).setExecutable(true);
@@ -178,27 +264,15 @@ public class LambdaEntry {
     }
 
     private File downloadChromeHeadless() throws IOException {
-        final File extractedDir = downloadAndExtractFile(CHROME_HEADLESS_PACKAGE, "chrome_headless");
+        final File extractedDir = BINARY_CACHE.getExtractedArchive(
+                CHROME_HEADLESS_PACKAGE,
+                SYSTEM_PROPERTY_UTILS.getPropertyEmptyAsNull(CHROME_HEADLESS_PACKAGE_SHA256));
         final String chrome = extractedDir.getAbsolutePath() + "/headless-chromium";
         System.setProperty("chrome.binary", chrome);
         new File(chrome).setExecutable(true);
         return extractedDir;
     }
 
-    private File downloadAndExtractFile(final String download, final String tempDirPrefix) throws IOException {
-        File downloadedFile = null;
-        try {
-            downloadedFile = File.createTempFile("download", ".zip");
-            FileUtils.copyURLToFile(new URL(download), downloadedFile);
-            final File extractedDir = Files.createTempDirectory(tempDirPrefix).toFile();
-            ZIP_UTILS.unzipFile(downloadedFile.getAbsolutePath(), extractedDir.getAbsolutePath());
-            return extractedDir;
-        } finally {
-            FileUtils.deleteQuietly(downloadedFile);
-        }
-
-    }
-
     private File writeFeatureToFile(final String feature) throws IOException {
         final File featureFile = File.createTempFile("cucumber", ".feature");
         try {
@@ -214,13 +288,18 @@ public class LambdaEntry {
 
     /**
      * Before we start, try cleaning the tmp directory to remove
-     * any left over files.
+     * any left over files. The binary cache and profile templates are kept.
      */
     private void cleanTmpFolder() {
-        try {
-            FileUtils.cleanDirectory(new File("/tmp"));
-        } catch (IOException e) {
-            // silent failure
+        final File[] files = new File("/tmp").listFiles();
+        if (files == null) {
+            return;
         }
+
+        Arrays.stream(files)
+                .filter(file -> !file.equals(BINARY_CACHE_DIR))
+                .filter(file -> !file.equals(PROFILE_TEMPLATE_SERVICE.getTemplateDirectory()))
+                // silent failure
+                .forEach(FileUtils::deleteQuietly);
     }
 }
\ No newline at end of file
@@ -2,15 +2,32 @@ package com.octopus;
 
 import com.octopus.decoratorbase.AutomatedBrowserBase;
 import com.octopus.decorators.WebDriverDecorator;
+import com.octopus.utils.ConfigurationService;
+import com.octopus.utils.DriverServiceRegistry;
+import com.octopus.utils.ElementCache;
+import com.octopus.utils.ElementDiagnostics;
 import com.octopus.utils.EnvironmentAliasesProcessor;
+import com.octopus.utils.LocatorClassifier;
+import com.octopus.utils.LocatorStrategyCache;
+import com.octopus.utils.PollingPolicyService;
+import com.octopus.utils.ShardingService;
 import com.octopus.utils.SystemPropertyUtils;
+import com.octopus.utils.impl.ConfigurationServiceImpl;
+import com.octopus.utils.impl.DriverServiceRegistryImpl;
+import com.octopus.utils.impl.ElementCacheImpl;
+import com.octopus.utils.impl.ElementDiagnosticsImpl;
 import com.octopus.utils.impl.EnvironmentAliasesProcessorImpl;
+import com.octopus.utils.impl.LocatorClassifierImpl;
+import com.octopus.utils.impl.LocatorStrategyCacheImpl;
+import com.octopus.utils.impl.PollingPolicyServiceImpl;
+import com.octopus.utils.impl.ShardingServiceImpl;
 import com.octopus.utils.impl.SystemPropertyUtilsImpl;
 import io.vavr.control.Try;
 
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
@@ -33,6 +50,38 @@ public class Main {
      * The shared SystemPropertyUtilsImpl instance.
      */
     private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * The shared ConfigurationServiceImpl instance.
+     */
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
+    /**
+     * The shared ShardingServiceImpl instance.
+     */
+    private static final ShardingService SHARDING_SERVICE = new ShardingServiceImpl();
+    /**
+     * The shared DriverServiceRegistryImpl instance.
+     */
+    private static final DriverServiceRegistry DRIVER_SERVICE_REGISTRY = new DriverServiceRegistryImpl();
+    /**
+     * The shared LocatorStrategyCacheImpl instance.
+     */
+    private static final LocatorStrategyCache LOCATOR_STRATEGY_CACHE = new LocatorStrategyCacheImpl();
+    /**
+     * The shared LocatorClassifierImpl instance.
+     */
+    private static final LocatorClassifier LOCATOR_CLASSIFIER = new LocatorClassifierImpl();
+    /**
+     * The shared ElementCacheImpl instance.
+     */
+    private static final ElementCache ELEMENT_CACHE = new ElementCacheImpl();
+    /**
+     * The shared ElementDiagnosticsImpl instance.
+     */
+    private static final ElementDiagnostics ELEMENT_DIAGNOSTICS = new ElementDiagnosticsImpl();
+    /**
+     * The shared PollingPolicyServiceImpl instance.
+     */
+    private static final PollingPolicyService POLLING_POLICY_SERVICE = new PollingPolicyServiceImpl();
     /**
      * We track the args so we can relaunch Cucumber with the same options.
      */
@@ -47,8 +96,13 @@ public class Main {
         Main.args = args;
         catchShutdown();
         configureLogging();
+        CONFIGURATION_SERVICE.refresh();
         dumpOptions();
-        final int retValue = runCucumber(args);
+        final int retValue = SYSTEM_PROPERTY_UTILS.hasProperty(Constants.WORKER_PORT)
+                ? runWorker(args)
+                : CONFIGURATION_SERVICE.getConfiguration().getWorkers() > 1
+                ? SHARDING_SERVICE.runCoordinator(args, CONFIGURATION_SERVICE.getConfiguration().getWorkers())
+                : runCucumber(args);
         System.exit(retValue);
     }
 
@@ -58,40 +112,80 @@ public class Main {
 
     private static int runCucumber(final String[] args) {
         try {
-            int retValue = 0;
-            final ArrayList<String> options = new ArrayList<>(Constants.DEFAULT_CUCUMBER_OPTIONS);
-            Collections.addAll(options, args);
+            return executeCucumber(args);
+        } finally {
+            shutdown();
+        }
+    }
+
+    /**
+     * Run the work units handed out by the coordinator. Browsers are only cleaned up once all the units are done,
+     * so shared and pooled browsers can be reused between units.
+     */
+    private static int runWorker(final String[] args) {
+        try {
+            return SHARDING_SERVICE.runWorker(
+                    args,
+                    SYSTEM_PROPERTY_UTILS.getPropertyAsInt(Constants.WORKER_PORT, 0),
+                    Main::executeCucumber);
+        } finally {
+            shutdown();
+        }
+    }
 
-            ENVIRONMENT_ALIASES_PROCESSOR.addSystemPropVarsAsAliases();
+    private static int executeCucumber(final String[] args) {
+        int retValue = 0;
+        final ArrayList<String> options = new ArrayList<>(Constants.DEFAULT_CUCUMBER_OPTIONS);
+        Collections.addAll(options, args);
+        addThreadsOption(options);
 
-            for (int x = 0; x < SYSTEM_PROPERTY_UTILS.getPropertyAsInt(Constants.RETRY_COUNT, 1); ++x) {
-                retValue = io.cucumber.core.cli.Main.run(
-                        options.toArray(new String[0]),
-                        Thread.currentThread().getContextClassLoader());
+        ENVIRONMENT_ALIASES_PROCESSOR.addSystemPropVarsAsAliases();
 
-                if (retValue == 0) {
-                    break;
-                }
+        for (int x = 0; x < SYSTEM_PROPERTY_UTILS.getPropertyAsInt(Constants.RETRY_COUNT, 1); ++x) {
+            retValue = io.cucumber.core.cli.Main.run(
+                    options.toArray(new String[0]),
+                    Thread.currentThread().getContextClassLoader());
 
-                Try.run(() -> Thread.sleep(Constants.RETRY_DELAY));
+            if (retValue == 0) {
+                break;
             }
-            return retValue;
-        } finally {
-            shutdown();
+
+            Try.run(() -> Thread.sleep(Constants.RETRY_DELAY));
         }
+        return retValue;
     }
 
     private static void shutdown() {
         Try.run(() -> {
             WebDriverDecorator.staticStopScreenRecording();
             if (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(BROWSER_CLEANUP, true)) {
-                if (AutomatedBrowserBase.getInstance() != null) {
-                    AutomatedBrowserBase.getInstance().closeBrowser();
-                }
+                // Browsers opened by Cucumber threads are not visible to this thread via getInstance()
+                AutomatedBrowserBase.closeAllBrowsers();
+                AutomatedBrowserFactory.getBrowserPool().shutdown();
+                DRIVER_SERVICE_REGISTRY.shutdown();
+            }
+            LOCATOR_STRATEGY_CACHE.save();
+            LOGGER.info("\n" + LOCATOR_STRATEGY_CACHE.getStatistics());
+            LOGGER.info("\n" + LOCATOR_CLASSIFIER.getStatistics());
+            ELEMENT_DIAGNOSTICS.flush();
+            LOGGER.info("\n" + POLLING_POLICY_SERVICE.getStatistics());
+            if (ELEMENT_CACHE.isEnabled()) {
+                LOGGER.info("\n" + ELEMENT_CACHE.getStatistics());
             }
         });
     }
 
+    /**
+     * Pass the threads setting through to Cucumber, unless the --threads option was already supplied.
+     */
+    private static void addThreadsOption(final List<String> options) {
+        final int threads = CONFIGURATION_SERVICE.getConfiguration().getThreads();
+        if (threads > 1 && !options.contains("--threads")) {
+            options.add("--threads");
+            options.add(String.valueOf(threads));
+        }
+    }
+
     private static void configureLogging() {
         Try.run(() -> LogManager.getLogManager().readConfiguration(Main.class.getClassLoader().getResourceAsStream("logging.properties")));
         // Disable some logs from BrowserMob
@@ -100,9 +194,7 @@ public class Main {
 
     private static void dumpOptions() {
         if (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(DUMP_OPTIONS, false)) {
-            LOGGER.info("Video recording " + (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.DISABLE_VIDEO_RECORDING, false) ? "disabled" : "enabled"));
-            LOGGER.info("Screenshots " + (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.DISABLE_SCREENSHOTS, false) ? "disabled" : "enabled"));
-            LOGGER.info("Highlights " + (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.DISABLE_HIGHLIGHTS, false) ? "disabled" : "enabled"));
+            CONFIGURATION_SERVICE.getConfiguration().getDescription().forEach(LOGGER::info);
             LOGGER.info("Headless Environment " + GraphicsEnvironment.isHeadless());
         }
     }
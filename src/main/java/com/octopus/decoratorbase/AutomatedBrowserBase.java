@@ -16,25 +16,27 @@ import io.cucumber.java.Scenario;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
+import io.vavr.control.Try;
 import org.apache.commons.exec.CommandLine;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.text.StringSubstitutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * This class serves two purposes.
@@ -45,6 +47,9 @@ import java.util.logging.Logger;
  * Second, it is the glue class used by Cucumber to execute custom steps. This class is in a namespace of its own so
  * Cucumber doesn't see any of the extending classes, which is a limitation Cucumber enforces. When used by Cucumber,
  * the lifecycle of the instance is managed by Cucumber, and tracked by the instanceAutomatedBrowser variable.
+ * <p>
+ * Cucumber can run scenarios in parallel with the --threads option. Each Cucumber thread gets its own instance and
+ * shared browser, while shared and external aliases are visible to all threads.
  */
 public class AutomatedBrowserBase implements AutomatedBrowser {
     /**
@@ -83,23 +88,29 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
     /**
      * The aliases defined externally (system properties or HTTP headers).
      */
-    private static Map<String, String> externalAliases = new HashMap<>();
+    private static final AliasStore externalAliases = new AliasStoreImpl(null);
+    /**
+     * The shared alias mappings that exist across all instances of AutomatedBrowser. These hide any external
+     * aliases of the same name.
+     */
+    private static final AliasStore sharedAliases = new AliasStoreImpl(externalAliases);
     /**
-     * The shared alias mappings that exist across all instances of AutomatedBrowser.
+     * A shared AutomatedBrowser that is used across the scenarios run by a Cucumber thread.
      */
-    private static Map<String, String> sharedAliases = new HashMap<>();
+    private static final ThreadLocal<AutomatedBrowser> sharedAutomatedBrowser = new ThreadLocal<>();
     /**
-     * A shared AutomatedBrowser that is used across scenarios.
+     * The AutomatedBrowser used for the scenario being run by a Cucumber thread.
      */
-    private static AutomatedBrowser sharedAutomatedBrowser;
+    private static final ThreadLocal<AutomatedBrowserBase> instanceAutomatedBrowser = new ThreadLocal<>();
     /**
-     * The AutomatedBrowser used for this scenario.
+     * Every browser opened by a step and not yet closed, across all Cucumber threads.
      */
-    private static AutomatedBrowserBase instanceAutomatedBrowser;
+    private static final Set<AutomatedBrowser> openBrowsers = ConcurrentHashMap.newKeySet();
     /**
-     * The alias mappings for this instance of AutomatedBrowser.
+     * The alias mappings for this instance of AutomatedBrowser. These hide any shared or external aliases of the
+     * same name.
      */
-    private Map<String, String> aliases = new HashMap<>();
+    private final AliasStore aliases = new AliasStoreImpl(sharedAliases);
     /**
      * The AutomatedBrowser instance wrapped by this decorator.
      */
@@ -119,14 +130,34 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
      * This must only be called by Cucumber. Otherwise call AutomatedBrowserBase(null).
      */
     public AutomatedBrowserBase() {
-        instanceAutomatedBrowser = this;
+        instanceAutomatedBrowser.set(this);
     }
 
     /**
-     * @return The AutomatedBrowser instance for this scenario.
+     * @return The AutomatedBrowser instance for the scenario being run by the current thread.
      */
     public static AutomatedBrowserBase getInstance() {
-        return instanceAutomatedBrowser;
+        return instanceAutomatedBrowser.get();
+    }
+
+    /**
+     * Close every browser that was opened by a step and not yet closed, including those opened by other
+     * Cucumber threads. This is used to clean up when the application shuts down.
+     */
+    public static void closeAllBrowsers() {
+        openBrowsers.forEach(AutomatedBrowserBase::releaseBrowser);
+        sharedAutomatedBrowser.remove();
+    }
+
+    /**
+     * Release a browser opened by a step, making sure it is only released once.
+     *
+     * @param automatedBrowser The browser to release
+     */
+    private static void releaseBrowser(final AutomatedBrowser automatedBrowser) {
+        if (automatedBrowser != null && openBrowsers.remove(automatedBrowser)) {
+            AUTOMATED_BROWSER_FACTORY.releaseAutomatedBrowser(automatedBrowser);
+        }
     }
 
     /**
@@ -138,7 +169,7 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
         if (externalAliases == null) {
             return;
         }
-        AutomatedBrowserBase.externalAliases.putAll(externalAliases);
+        AutomatedBrowserBase.externalAliases.putAliases(externalAliases);
     }
 
     /**
@@ -146,7 +177,7 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
      */
     @Before
     public void reuseSharedBrowser() {
-        automatedBrowser = sharedAutomatedBrowser;
+        automatedBrowser = sharedAutomatedBrowser.get();
     }
 
     /**
@@ -160,7 +191,7 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
     @After
     public void afterScenario(final Scenario scenario) {
         if (scenario.isFailed()) {
-            closeBrowser();
+            resetOrCloseBrowser();
             stopScreenRecording();
             if (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.DUMP_ALIASES_ON_FAILURE, false)) {
                 dumpAliases();
@@ -171,14 +202,20 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
     }
 
     /**
-     * @return The combined map of the aliases defined in this scenario, and any passed in from the command line
+     * A shared browser is reset after a failure so the following scenarios get a clean browser, and is only closed
+     * if the reset fails. Any other browser is closed, which returns it to the browser pool if the pool is enabled.
      */
-    private Map<String, String> getAliases() {
-        final Map<String, String> combinedAliases = new HashMap<>();
-        combinedAliases.putAll(externalAliases);
-        combinedAliases.putAll(sharedAliases);
-        combinedAliases.putAll(aliases);
-        return combinedAliases;
+    private void resetOrCloseBrowser() {
+        if (automatedBrowser != null && automatedBrowser == sharedAutomatedBrowser.get()) {
+            final boolean reset = Try.run(automatedBrowser::reset)
+                    .onFailure(ex -> LOGGER.warning("Failed to reset the shared browser, so it will be closed: " + ex))
+                    .isSuccess();
+            if (reset) {
+                return;
+            }
+        }
+
+        closeBrowser();
     }
 
     /**
@@ -240,9 +277,9 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
     @Given("^I set the following( shared)? aliases:$")
     public void setAliases(final String shared, final Map<String, String> aliases) {
         if (StringUtils.isEmpty(shared)) {
-            this.aliases.putAll(aliases);
+            this.aliases.putAliases(aliases);
         } else {
-            sharedAliases.putAll(aliases);
+            sharedAliases.putAliases(aliases);
         }
     }
 
@@ -262,30 +299,27 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
      */
     @Given("^I open the( shared)? browser \"([^\"]*)\"$")
     public void openBrowser(final String shared, final String browser) {
-        if (sharedAutomatedBrowser != null) {
+        if (sharedAutomatedBrowser.get() != null) {
             throw new BrowserException("Can not open a browser with an existing shared browser.");
         }
 
+        automatedBrowser = AUTOMATED_BROWSER_FACTORY.getInitialisedAutomatedBrowser(getSubstitutedString(browser));
+        openBrowsers.add(automatedBrowser);
+
         if (shared != null) {
-            automatedBrowser = sharedAutomatedBrowser = AUTOMATED_BROWSER_FACTORY.getAutomatedBrowser(getSubstitutedString(browser));
-            automatedBrowser.init();
-        } else {
-            automatedBrowser = AUTOMATED_BROWSER_FACTORY.getAutomatedBrowser(getSubstitutedString(browser));
-            automatedBrowser.init();
+            sharedAutomatedBrowser.set(automatedBrowser);
         }
     }
 
     /**
-     * Shuts down the browser.
+     * Shuts down the browser, or returns it to the browser pool if the pool is enabled.
      */
     @Given("^I close the browser$")
     public void closeBrowser() {
-        if (automatedBrowser != null) {
-            automatedBrowser.destroy();
-        }
+        releaseBrowser(automatedBrowser);
 
         automatedBrowser = null;
-        sharedAutomatedBrowser = null;
+        sharedAutomatedBrowser.remove();
     }
 
     @And("^I set the default explicit wait time to \"(\\d+)\" seconds?$")
@@ -344,6 +378,14 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
         }
     }
 
+    @Given("^I reset the browser$")
+    @Override
+    public void reset() {
+        if (getAutomatedBrowser() != null) {
+            getAutomatedBrowser().reset();
+        }
+    }
+
     @And("^I open the URL \"([^\"]*)\"$")
     @Override
     public void goTo(final String url) {
@@ -426,16 +468,16 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
     @Override
     public void dumpAliases() {
         LOGGER.info("\nStart of alias dump");
-        getAliases().entrySet().forEach(entrySet -> LOGGER.info(entrySet.getKey() + ": " + entrySet.getValue()));
+        aliases.getSnapshot().entrySet().forEach(entrySet -> LOGGER.info(entrySet.getKey() + ": " + entrySet.getValue()));
     }
 
     @And("^I copy the value from the LastReturn alias to the( shared)? alias \"([^\"]*)\"$")
     @Override
     public void copyLastReturnAliasTo(final String shared, final String newAlias) {
         if (StringUtils.isEmpty(shared)) {
-            aliases.put(getSubstitutedString(newAlias), aliases.get(LAST_RETURN));
+            aliases.putAlias(getSubstitutedString(newAlias), aliases.getAlias(LAST_RETURN));
         } else {
-            sharedAliases.put(getSubstitutedString(newAlias), aliases.get(LAST_RETURN));
+            sharedAliases.putAlias(getSubstitutedString(newAlias), aliases.getAlias(LAST_RETURN));
         }
     }
 
@@ -1107,11 +1149,11 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
             final String text = getAutomatedBrowser().getTextFromElementIfExists(
                     getSubstitutedString(locator),
                     ifExistsOption);
-            aliases.put(LAST_RETURN, text);
+            aliases.putAlias(LAST_RETURN, text);
             return text;
         }
 
-        aliases.put(LAST_RETURN, null);
+        aliases.putAlias(LAST_RETURN, null);
         return null;
     }
 
@@ -1123,11 +1165,11 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
                     getSubstitutedString(locator),
                     waitTime,
                     ifExistsOption);
-            aliases.put(LAST_RETURN, text);
+            aliases.putAlias(LAST_RETURN, text);
             return text;
         }
 
-        aliases.put(LAST_RETURN, null);
+        aliases.putAlias(LAST_RETURN, null);
         return null;
     }
 
@@ -1144,11 +1186,11 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
                     getSubstitutedString(regex),
                     getSubstitutedString(locator),
                     ifExistsOption);
-            aliases.put(LAST_RETURN, text);
+            aliases.putAlias(LAST_RETURN, text);
             return text;
         }
 
-        aliases.put(LAST_RETURN, null);
+        aliases.putAlias(LAST_RETURN, null);
         return null;
     }
 
@@ -1167,11 +1209,11 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
                     getSubstitutedString(locator),
                     waitTime,
                     ifExistsOption);
-            aliases.put(LAST_RETURN, text);
+            aliases.putAlias(LAST_RETURN, text);
             return text;
         }
 
-        aliases.put(LAST_RETURN, null);
+        aliases.putAlias(LAST_RETURN, null);
         return null;
     }
 
@@ -1275,6 +1317,22 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
         }
     }
 
+    @And("^I remove the request rules for \"([^\"]*)\"$")
+    @Override
+    public void removeRequestRules(final String url) {
+        if (getAutomatedBrowser() != null) {
+            getAutomatedBrowser().removeRequestRules(getSubstitutedString(url));
+        }
+    }
+
+    @And("^I remove all request rules$")
+    @Override
+    public void removeAllRequestRules() {
+        if (getAutomatedBrowser() != null) {
+            getAutomatedBrowser().removeAllRequestRules();
+        }
+    }
+
     @Override
     public List<Pair<String, Integer>> getErrors() {
         if (getAutomatedBrowser() != null) {
@@ -1356,6 +1414,35 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
         }
     }
 
+    @Override
+    public void elementsHighlightIfExists(final String position, final String lift, final List<String> locators, final String offset, final int waitTime, final String ifExistsOption) {
+        if (getAutomatedBrowser() != null) {
+            getAutomatedBrowser().elementsHighlightIfExists(
+                    position,
+                    lift,
+                    locators.stream().map(this::getSubstitutedString).collect(Collectors.toList()),
+                    getSubstitutedString(offset),
+                    waitTime,
+                    ifExistsOption);
+        }
+    }
+
+    @Override
+    public void removeElementHighlights(final List<String> locators) {
+        if (getAutomatedBrowser() != null) {
+            getAutomatedBrowser().removeElementHighlights(
+                    locators.stream().map(this::getSubstitutedString).collect(Collectors.toList()));
+        }
+    }
+
+    @And("^I remove all highlights$")
+    @Override
+    public void removeAllElementHighlights() {
+        if (getAutomatedBrowser() != null) {
+            getAutomatedBrowser().removeAllElementHighlights();
+        }
+    }
+
     @Then("^I verify the \"([^\"]*)\" \\w+(?:\\s+\\w+)* is present( if it exists)?$")
     @Override
     public void verifyElementExists(final String locator, final String ifExistsOption) {
@@ -1422,7 +1509,7 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
     public String getTitle() {
         if (getAutomatedBrowser() != null) {
             final String text = getAutomatedBrowser().getTitle();
-            aliases.put(LAST_RETURN, text);
+            aliases.putAlias(LAST_RETURN, text);
             return text;
         }
         return null;
@@ -1539,9 +1626,9 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
             final String resultString = Objects.toString(result, "");
             if (!StringUtils.isEmpty(alias)) {
                 if (StringUtils.isEmpty(shared)) {
-                    aliases.put(getSubstitutedString(alias), resultString);
+                    aliases.putAlias(getSubstitutedString(alias), resultString);
                 } else {
-                    sharedAliases.put(getSubstitutedString(alias), resultString);
+                    sharedAliases.putAlias(getSubstitutedString(alias), resultString);
                 }
             }
             return result;
@@ -1753,12 +1840,6 @@ public class AutomatedBrowserBase implements AutomatedBrowser {
     }
 
     private String getSubstitutedString(final String string) {
-        if (StringUtils.isEmpty(string)) {
-            return string;
-        }
-
-        return new StringSubstitutor(getAliases(), "#{", "}")
-                .setEnableSubstitutionInVariables(true)
-                .replace(getAliases().getOrDefault(string, string));
+        return aliases.getSubstitutedString(string);
     }
 }
\ No newline at end of file
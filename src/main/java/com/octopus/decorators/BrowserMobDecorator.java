@@ -7,12 +7,20 @@ import com.browserup.harreader.model.HarLog;
 import com.octopus.AutomatedBrowser;
 import com.octopus.Constants;
 import com.octopus.decoratorbase.AutomatedBrowserBase;
+import com.octopus.exceptions.BrowserException;
 import com.octopus.exceptions.SaveException;
+import com.octopus.utils.HarStream;
 import com.octopus.utils.OSUtils;
+import com.octopus.utils.ProxyRules;
 import com.octopus.utils.SystemPropertyUtils;
+import com.octopus.utils.UrlUtils;
+import com.octopus.utils.impl.HarStreamImpl;
 import com.octopus.utils.impl.OSUtilsImpl;
+import com.octopus.utils.impl.ProxyRulesImpl;
 import com.octopus.utils.impl.SystemPropertyUtilsImpl;
+import com.octopus.utils.impl.UrlUtilsImpl;
 import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import org.apache.commons.lang3.Range;
@@ -28,7 +36,9 @@ import java.io.IOException;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public class BrowserMobDecorator extends AutomatedBrowserBase {
 
+    /**
+     * The logger used to report the rule statistics.
+     */
+    private static final Logger LOGGER = Logger.getLogger(BrowserMobDecorator.class.toString());
     /**
      * The shared SystemPropertyUtilsImpl instance.
      */
@@ -44,6 +58,14 @@ public class BrowserMobDecorator extends AutomatedBrowserBase {
      * The shared OSUtilsImpl instance.
      */
     private static final OSUtils OS_UTILS = new OSUtilsImpl();
+    /**
+     * The shared UrlUtilsImpl instance.
+     */
+    private static final UrlUtils URL_UTILS = new UrlUtilsImpl();
+    /**
+     * The header browsers use to say what a request is for.
+     */
+    private static final String SEC_FETCH_DEST = "Sec-Fetch-Dest";
     /**
      * The start of the error response code range.
      */
@@ -57,6 +79,23 @@ public class BrowserMobDecorator extends AutomatedBrowserBase {
      * The BrowserMob proxy instance.
      */
     private BrowserUpProxyServer proxy;
+    /**
+     * The origins of the pages the proxy has seen since the browser was last reset. A failed reset keeps the
+     * origins, so every later reset fails too, and the browser is destroyed rather than reused.
+     */
+    private final Set<String> visitedOrigins = ConcurrentHashMap.newKeySet();
+    /**
+     * The stream that moves HAR entries to disk, or null if the HAR is held in memory.
+     */
+    private HarStream harStream;
+    /**
+     * The URL patterns to block, and the response code to return.
+     */
+    private final ProxyRules<Integer> blockedRequests = new ProxyRulesImpl<>("Blocked requests");
+    /**
+     * The URL patterns whose responses are altered, and the response code and body to return.
+     */
+    private final ProxyRules<Pair<Integer, String>> alteredResponses = new ProxyRulesImpl<>("Altered responses");
 
     /**
      * Decorator constructor.
@@ -73,6 +112,33 @@ public class BrowserMobDecorator extends AutomatedBrowserBase {
         proxy.setTrustAllServers(true);
         proxy.setUseEcc(true);
         proxy.start(0);
+        // Record the origin of every page, including redirects and links the steps didn't navigate to directly
+        proxy.addRequestFilter((request, contents, messageInfo) -> {
+            if (isDocumentRequest(request)) {
+                URL_UTILS.getOrigin(messageInfo.getOriginalUrl()).ifPresent(visitedOrigins::add);
+            }
+            return null;
+        });
+        // A single request and response filter applies all the rules, so rules can be removed when the browser is reset
+        proxy.addRequestFilter((request, contents, messageInfo) -> blockedRequests
+                .getFirstMatch(messageInfo.getOriginalUrl())
+                .map(rule -> {
+                    final HttpResponse response = new DefaultHttpResponse(
+                            request.getProtocolVersion(),
+                            HttpResponseStatus.valueOf(rule.getAction()));
+
+                    response.headers().add(HttpHeaders.CONNECTION, "Close");
+
+                    return response;
+                })
+                .orElse(null));
+        // The newest matching rule wins, as each rule overwrites the response of the rules before it
+        proxy.addResponseFilter((response, contents, messageInfo) -> alteredResponses
+                .getLastMatch(messageInfo.getOriginalUrl())
+                .ifPresent(rule -> {
+                    contents.setTextContents(rule.getAction().getRight());
+                    response.setStatus(HttpResponseStatus.valueOf(rule.getAction().getLeft()));
+                }));
 
         final DesiredCapabilities desiredCapabilities =
                 getAutomatedBrowser().getDesiredCapabilities();
@@ -98,6 +164,9 @@ public class BrowserMobDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().destroy();
         }
 
+        logRuleStatistics();
+        closeHarStream();
+
         if (proxy != null) {
             if (proxy.getHar() != null) {
                 proxy.endHar();
@@ -106,9 +175,32 @@ public class BrowserMobDecorator extends AutomatedBrowserBase {
         }
     }
 
+    @Override
+    public void reset() {
+        // Cookies and storage can only be cleared for the current origin, so a browser that loaded pages from any
+        // other origin can not be cleaned without a relaunch
+        if (visitedOrigins.size() > 1) {
+            final String origins = String.join(", ", visitedOrigins);
+            throw new BrowserException("The browser can not be reset as it visited more than one origin: " + origins);
+        }
+        visitedOrigins.clear();
+
+        super.reset();
+
+        // Rules are scoped to a scenario, so they don't apply to the next scenario to use a shared browser
+        logRuleStatistics();
+        blockedRequests.clear();
+        alteredResponses.clear();
+        closeHarStream();
+        if (proxy != null && proxy.getHar() != null) {
+            proxy.endHar();
+        }
+    }
+
     @Override
     public void captureHarFile() {
         proxy.newHar();
+        openHarStream();
     }
 
     @Override
@@ -119,10 +211,16 @@ public class BrowserMobDecorator extends AutomatedBrowserBase {
         captureTypes.addAll(CaptureType.getCookieCaptureTypes());
         proxy.setHarCaptureTypes(captureTypes);
         proxy.newHar();
+        openHarStream();
     }
 
     @Override
     public void saveHarFile(final String file) {
+        if (harStream != null) {
+            harStream.save(new File(OS_UTILS.fixFileName(file)));
+            return;
+        }
+
         try {
             proxy.getHar().writeTo(new File(OS_UTILS.fixFileName(file)));
         } catch (final IOException ex) {
@@ -132,38 +230,42 @@ public class BrowserMobDecorator extends AutomatedBrowserBase {
 
     @Override
     public void blockRequestTo(final String url, final int responseCode) {
-        proxy.addRequestFilter((request, contents, messageInfo) -> {
-            if (Pattern.compile(url).matcher(messageInfo.getOriginalUrl()).matches()) {
-                final HttpResponse response = new DefaultHttpResponse(
-                        request.getProtocolVersion(),
-                        HttpResponseStatus.valueOf(responseCode));
+        blockedRequests.addRule(url, responseCode);
 
-                response.headers().add(HttpHeaders.CONNECTION, "Close");
+        getAutomatedBrowser().blockRequestTo(url, responseCode);
+    }
 
-                return response;
-            }
+    @Override
+    public void alterResponseFrom(final String url, final int responseCode, final String responseBody) {
+        alteredResponses.addRule(url, Pair.of(responseCode, responseBody));
 
-            return null;
+        getAutomatedBrowser().alterResponseFrom(url, responseCode, responseBody);
+    }
 
-        });
+    @Override
+    public void removeRequestRules(final String url) {
+        final int removed = blockedRequests.removeRules(url) + alteredResponses.removeRules(url);
+        if (removed == 0) {
+            LOGGER.warning("No rules were added for the URL " + url);
+        }
 
-        getAutomatedBrowser().blockRequestTo(url, responseCode);
+        getAutomatedBrowser().removeRequestRules(url);
     }
 
     @Override
-    public void alterResponseFrom(final String url, final int responseCode, final String responseBody) {
-        proxy.addResponseFilter((response, contents, messageInfo) -> {
-            if (Pattern.compile(url).matcher(messageInfo.getOriginalUrl()).matches()) {
-                contents.setTextContents(responseBody);
-                response.setStatus(HttpResponseStatus.valueOf(responseCode));
-            }
-        });
+    public void removeAllRequestRules() {
+        blockedRequests.clear();
+        alteredResponses.clear();
 
-        getAutomatedBrowser().alterResponseFrom(url, responseCode, responseBody);
+        getAutomatedBrowser().removeAllRequestRules();
     }
 
     @Override
     public List<Pair<String, Integer>> getErrors() {
+        if (harStream != null) {
+            return harStream.getErrors();
+        }
+
         return Optional.ofNullable(proxy.getHar())
                 .map(Har::getLog)
                 .map(HarLog::getEntries)
@@ -173,4 +275,41 @@ public class BrowserMobDecorator extends AutomatedBrowserBase {
                 .map(s -> Pair.of(s.getRequest().getUrl(), s.getResponse().getStatus()))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Move the entries of a new HAR to disk as they complete, if HAR streaming is enabled.
+     */
+    private void openHarStream() {
+        closeHarStream();
+        if (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.HAR_STREAMING, false)) {
+            harStream = new HarStreamImpl(proxy.getHar());
+        }
+    }
+
+    /**
+     * @return true if the request loads a page rather than a resource. Browsers that don't send Sec-Fetch-Dest
+     * are assumed to load a page when they accept HTML.
+     */
+    private static boolean isDocumentRequest(final HttpRequest request) {
+        final String destination = request.headers().get(SEC_FETCH_DEST);
+        return destination == null
+                ? StringUtils.contains(request.headers().get(HttpHeaders.ACCEPT), "text/html")
+                : "document".equals(destination);
+    }
+
+    private void closeHarStream() {
+        if (harStream != null) {
+            harStream.close();
+            harStream = null;
+        }
+    }
+
+    private void logRuleStatistics() {
+        if (!blockedRequests.getRules().isEmpty()) {
+            LOGGER.info(blockedRequests.getStatistics());
+        }
+        if (!alteredResponses.getRules().isEmpty()) {
+            LOGGER.info(alteredResponses.getStatistics());
+        }
+    }
 }
\ No newline at end of file
@@ -2,6 +2,10 @@ package com.octopus.decorators;
 
 import com.octopus.AutomatedBrowser;
 import com.octopus.decoratorbase.AutomatedBrowserBase;
+import com.octopus.utils.DriverServiceRegistry;
+import com.octopus.utils.ProfileTemplateService;
+import com.octopus.utils.impl.DriverServiceRegistryImpl;
+import com.octopus.utils.impl.ProfileTemplateServiceImpl;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -17,6 +21,14 @@ import java.nio.file.Files;
  * A decorator to configure a Chrome session.
  */
 public class ChromeDecorator extends AutomatedBrowserBase {
+    /**
+     * The shared DriverServiceRegistryImpl instance.
+     */
+    private static final DriverServiceRegistry DRIVER_SERVICE_REGISTRY = new DriverServiceRegistryImpl();
+    /**
+     * The shared ProfileTemplateServiceImpl instance.
+     */
+    private static final ProfileTemplateService PROFILE_TEMPLATE_SERVICE = new ProfileTemplateServiceImpl();
 
     /**
      * true if the browser is headless, and false otherwise.
@@ -56,6 +68,24 @@ public class ChromeDecorator extends AutomatedBrowserBase {
 
     @Override
     public void init() {
+        if (PROFILE_TEMPLATE_SERVICE.isEnabled()) {
+            // Replace the empty user data directory with a copy of the warmed profile
+            FileUtils.deleteQuietly(userData);
+            userData = PROFILE_TEMPLATE_SERVICE.cloneTemplate(
+                    "chrome-" + headless + "-" + System.getProperty("chrome.binary"),
+                    this::buildProfileTemplate);
+        }
+
+        final ChromeOptions options = getChromeOptions(headless, userData);
+        options.merge(getDesiredCapabilities());
+        final WebDriver webDriver = DRIVER_SERVICE_REGISTRY.isEnabled()
+                ? DRIVER_SERVICE_REGISTRY.createChromeDriver(options)
+                : new ChromeDriver(options);
+        getAutomatedBrowser().setWebDriver(webDriver);
+        getAutomatedBrowser().init();
+    }
+
+    private ChromeOptions getChromeOptions(final boolean headless, final File userData) {
         final ChromeOptions options = new ChromeOptions();
         if (headless) {
             options.addArguments("--window-size=1920,1080");
@@ -66,14 +96,26 @@ public class ChromeDecorator extends AutomatedBrowserBase {
         if (userData != null) {
             options.addArguments("--user-data-dir=" + userData.getAbsolutePath());
         }
+        if (PROFILE_TEMPLATE_SERVICE.isEnabled()) {
+            options.addArguments("--no-first-run", "--disable-component-update");
+        }
         if (System.getProperty("chrome.binary") != null) {
             options.setBinary(System.getProperty("chrome.binary"));
         }
+        return options;
+    }
 
-        options.merge(getDesiredCapabilities());
-        final WebDriver webDriver = new ChromeDriver(options);
-        getAutomatedBrowser().setWebDriver(webDriver);
-        getAutomatedBrowser().init();
+    /**
+     * Run Chrome once against the template directory so it completes the first run and builds its profile.
+     * The proxy and other desired capabilities are not used, as they are specific to a session.
+     */
+    private void buildProfileTemplate(final File template) {
+        final WebDriver webDriver = new ChromeDriver(getChromeOptions(headless, template));
+        try {
+            PROFILE_TEMPLATE_SERVICE.warmProfile(webDriver);
+        } finally {
+            webDriver.quit();
+        }
     }
 
     @Override
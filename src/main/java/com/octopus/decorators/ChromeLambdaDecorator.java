@@ -3,6 +3,10 @@ package com.octopus.decorators;
 import com.google.common.io.Files;
 import com.octopus.AutomatedBrowser;
 import com.octopus.decoratorbase.AutomatedBrowserBase;
+import com.octopus.utils.DriverServiceRegistry;
+import com.octopus.utils.ProfileTemplateService;
+import com.octopus.utils.impl.DriverServiceRegistryImpl;
+import com.octopus.utils.impl.ProfileTemplateServiceImpl;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -17,6 +21,14 @@ import java.io.File;
  * This decorator can also be used in other situations such as running as root in a Linux session.
  */
 public class ChromeLambdaDecorator extends AutomatedBrowserBase {
+    /**
+     * The shared DriverServiceRegistryImpl instance.
+     */
+    private static final DriverServiceRegistry DRIVER_SERVICE_REGISTRY = new DriverServiceRegistryImpl();
+    /**
+     * The shared ProfileTemplateServiceImpl instance.
+     */
+    private static final ProfileTemplateService PROFILE_TEMPLATE_SERVICE = new ProfileTemplateServiceImpl();
     /**
      * true if the browser is headless, and false otherwise.
      */
@@ -24,7 +36,7 @@ public class ChromeLambdaDecorator extends AutomatedBrowserBase {
     /**
      * The Chrome user data directory.
      */
-    private final File userData;
+    private File userData;
     /**
      * The Chrome data directory.
      */
@@ -57,6 +69,24 @@ public class ChromeLambdaDecorator extends AutomatedBrowserBase {
 
     @Override
     public void init() {
+        if (PROFILE_TEMPLATE_SERVICE.isEnabled()) {
+            // Replace the empty user data directory with a copy of the warmed profile
+            FileUtils.deleteQuietly(userData);
+            userData = PROFILE_TEMPLATE_SERVICE.cloneTemplate(
+                    "chrome-lambda-" + headless + "-" + System.getProperty("chrome.binary"),
+                    this::buildProfileTemplate);
+        }
+
+        final ChromeOptions options = getChromeOptions(userData);
+        options.merge(getDesiredCapabilities());
+        final WebDriver webDriver = DRIVER_SERVICE_REGISTRY.isEnabled()
+                ? DRIVER_SERVICE_REGISTRY.createChromeDriver(options)
+                : new ChromeDriver(options);
+        getAutomatedBrowser().setWebDriver(webDriver);
+        getAutomatedBrowser().init();
+    }
+
+    private ChromeOptions getChromeOptions(final File userData) {
         final ChromeOptions options = new ChromeOptions();
         if (headless) {
             options.addArguments("--headless");
@@ -78,16 +108,31 @@ public class ChromeLambdaDecorator extends AutomatedBrowserBase {
         options.addArguments("--user-data-dir=" + userData.getAbsolutePath());
         options.addArguments("--data-path=" + dataPath.getAbsolutePath());
         options.addArguments("--homedir=" + homeDir.getAbsolutePath());
-        options.addArguments("--disk-cache-dir=" + cacheDir.getAbsolutePath());
+
+        if (PROFILE_TEMPLATE_SERVICE.isEnabled()) {
+            // Leave the cache in the user data directory so the cache seeded into the template is cloned
+            options.addArguments("--no-first-run", "--disable-component-update");
+        } else {
+            options.addArguments("--disk-cache-dir=" + cacheDir.getAbsolutePath());
+        }
 
         if (System.getProperty("chrome.binary") != null) {
             options.setBinary(System.getProperty("chrome.binary"));
         }
+        return options;
+    }
 
-        options.merge(getDesiredCapabilities());
-        final WebDriver webDriver = new ChromeDriver(options);
-        getAutomatedBrowser().setWebDriver(webDriver);
-        getAutomatedBrowser().init();
+    /**
+     * Run Chrome once against the template directory so it completes the first run and builds its profile.
+     * The proxy and other desired capabilities are not used, as they are specific to a session.
+     */
+    private void buildProfileTemplate(final File template) {
+        final WebDriver webDriver = new ChromeDriver(getChromeOptions(template));
+        try {
+            PROFILE_TEMPLATE_SERVICE.warmProfile(webDriver);
+        } finally {
+            webDriver.quit();
+        }
     }
 
     @Override
@@ -1,8 +1,11 @@
 package com.octopus.decorators;
 
 import com.octopus.AutomatedBrowser;
+import com.octopus.Constants;
 import com.octopus.decoratorbase.AutomatedBrowserBase;
+import com.octopus.utils.DriverServiceRegistry;
 import com.octopus.utils.SystemPropertyUtils;
+import com.octopus.utils.impl.DriverServiceRegistryImpl;
 import com.octopus.utils.impl.SystemPropertyUtilsImpl;
 import io.vavr.control.Try;
 import org.apache.commons.lang3.StringUtils;
@@ -23,6 +26,10 @@ public class FirefoxDecorator extends AutomatedBrowserBase {
      * The shared SystemPropertyUtilsImpl instance.
      */
     private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * The shared DriverServiceRegistryImpl instance.
+     */
+    private static final DriverServiceRegistry DRIVER_SERVICE_REGISTRY = new DriverServiceRegistryImpl();
 
     /**
      * true if the browser is headless, and false otherwise.
@@ -57,7 +64,12 @@ public class FirefoxDecorator extends AutomatedBrowserBase {
 
     @Override
     public void init() {
-        final FirefoxProfile myprofile = new FirefoxProfile();
+        // A template profile is copied by Selenium into a new profile directory for each session
+        final FirefoxProfile myprofile = SYSTEM_PROPERTY_UTILS.getPropertyAsOptional(Constants.FIREFOX_PROFILE_TEMPLATE)
+                .map(File::new)
+                .filter(File::isDirectory)
+                .map(FirefoxProfile::new)
+                .orElseGet(FirefoxProfile::new);
         myprofile.setPreference("network.automatic-ntlm-auth.trusted-uris", "localhost");
         myprofile.setPreference("network.negotiate-auth.delegation-uris", "localhost");
         myprofile.setPreference("network.negotiate-auth.trusted-uris", "localhost");
@@ -65,12 +77,24 @@ public class FirefoxDecorator extends AutomatedBrowserBase {
         myprofile.setPreference("browser.cache.memory.enable", false);
         myprofile.setPreference("browser.cache.memory.capacity", 0);
         myprofile.setPreference("browser.fullscreen.autohide", false);
+        // Skip the first run pages and background update checks
+        myprofile.setPreference("browser.startup.homepage_override.mstone", "ignore");
+        myprofile.setPreference("startup.homepage_welcome_url", "about:blank");
+        myprofile.setPreference("startup.homepage_welcome_url.additional", "");
+        myprofile.setPreference("browser.shell.checkDefaultBrowser", false);
+        myprofile.setPreference("datareporting.policy.dataSubmissionPolicyBypassNotification", true);
+        myprofile.setPreference("toolkit.telemetry.reportingpolicy.firstRun", false);
+        myprofile.setPreference("app.update.auto", false);
+        myprofile.setPreference("app.update.enabled", false);
+        myprofile.setPreference("extensions.update.enabled", false);
 
         final FirefoxOptions options = new FirefoxOptions();
         options.setHeadless(headless);
         options.setProfile(myprofile);
         options.merge(getDesiredCapabilities());
-        final WebDriver webDriver = new FirefoxDriver(options);
+        final WebDriver webDriver = DRIVER_SERVICE_REGISTRY.isEnabled()
+                ? DRIVER_SERVICE_REGISTRY.createFirefoxDriver(options)
+                : new FirefoxDriver(options);
         getAutomatedBrowser().setWebDriver(webDriver);
         getAutomatedBrowser().init();
     }
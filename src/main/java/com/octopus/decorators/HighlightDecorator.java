@@ -1,15 +1,17 @@
 package com.octopus.decorators;
 
 import com.octopus.AutomatedBrowser;
-import com.octopus.Constants;
 import com.octopus.decoratorbase.AutomatedBrowserBase;
 import com.octopus.exceptions.WebElementException;
+import com.octopus.utils.ConfigurationService;
+import com.octopus.utils.Deadline;
 import com.octopus.utils.RetryService;
 import com.octopus.utils.SimpleBy;
-import com.octopus.utils.SystemPropertyUtils;
+import com.octopus.utils.StepScope;
+import com.octopus.utils.impl.ConfigurationServiceImpl;
 import com.octopus.utils.impl.RetryServiceImpl;
 import com.octopus.utils.impl.SimpleByImpl;
-import com.octopus.utils.impl.SystemPropertyUtilsImpl;
+import com.octopus.utils.impl.StepScopeImpl;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.openqa.selenium.JavascriptExecutor;
@@ -17,20 +19,110 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.springframework.retry.RetryCallback;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 /**
- * A decorator to provide highlighting of HTML elements.
+ * A decorator to provide highlighting of HTML elements. Highlights are drawn by a stylesheet that is added to the
+ * page once, and applied by setting the data-webdriver-highlight attribute to the locator used to find the element.
+ * Removing a highlight removes the attribute, so the element does not need to be found again.
+ * <p>
+ * The stylesheet is adopted by the document where the browser supports constructable stylesheets, as these are
+ * not blocked by a Content Security Policy. Otherwise a style element is added, and if the page's policy blocks it,
+ * the highlight is drawn with the element's inline style, which is restored when the highlight is removed.
  */
 public class HighlightDecorator extends AutomatedBrowserBase {
     private static final Logger LOGGER = Logger.getLogger(HighlightDecorator.class.toString());
     private static final SimpleBy SIMPLE_BY = new SimpleByImpl();
-    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
     private static final RetryService RETRY_SERVICE = new RetryServiceImpl();
+    private static final StepScope STEP_SCOPE = new StepScopeImpl();
+    /**
+     * Adds the highlight stylesheet to the page if it is not already there, and marks the elements.
+     * The arguments are the elements, their locators, the location, the offset, and whether to lift the elements.
+     * The sheet is kept in window.webdriverHighlightSheet, which is null if the page blocked it.
+     * Returns true if the elements were highlighted with their inline style.
+     */
+    private static final String HIGHLIGHT_SCRIPT = """
+            const color = 'rgb(0, 204, 101)';
+            const offsetSelector = '[data-webdriver-highlight-offset="' + arguments[3] + '"]';
+            if (window.webdriverHighlightSheet === undefined) {
+                const rules = [
+                    '[data-webdriver-highlight-location="inside"] { border: 5px solid ' + color + ' !important; }',
+                    '[data-webdriver-highlight-location="outside"] { outline: 5px solid ' + color + ' !important; }',
+                    '[data-webdriver-highlight-lift] { z-index: 999999 !important; }'];
+                let sheet = null;
+                try {
+                    if ('adoptedStyleSheets' in document) {
+                        sheet = new CSSStyleSheet();
+                        rules.forEach(rule => sheet.insertRule(rule, sheet.cssRules.length));
+                        document.adoptedStyleSheets = [...document.adoptedStyleSheets, sheet];
+                    }
+                } catch (e) {
+                    sheet = null;
+                }
+                if (!sheet) {
+                    const style = document.createElement('style');
+                    style.id = 'webdriver-highlight-style';
+                    style.textContent = rules.join('');
+                    (document.head || document.documentElement).appendChild(style);
+                    // A policy without 'unsafe-inline' leaves the style element without any rules
+                    sheet = style.sheet && style.sheet.cssRules.length !== 0 ? style.sheet : null;
+                }
+                window.webdriverHighlightSheet = sheet;
+            }
+            const sheet = window.webdriverHighlightSheet;
+            if (sheet && !Array.from(sheet.cssRules).some(rule => rule.selectorText === offsetSelector)) {
+                sheet.insertRule(offsetSelector + ' { outline-offset: ' + arguments[3] + 'px !important; }', sheet.cssRules.length);
+            }
+            arguments[0].forEach((element, index) => {
+                element.setAttribute('data-webdriver-highlight', arguments[1][index]);
+                element.setAttribute('data-webdriver-highlight-location', arguments[2]);
+                element.setAttribute('data-webdriver-highlight-offset', arguments[3]);
+                if (arguments[4]) {
+                    element.setAttribute('data-webdriver-highlight-lift', '');
+                }
+                if (!sheet) {
+                    const original = element.hasAttribute('data-webdriver-highlight-style')
+                        ? element.getAttribute('data-webdriver-highlight-style')
+                        : element.getAttribute('style') || '';
+                    element.setAttribute('data-webdriver-highlight-style', original);
+                    element.setAttribute('style', original);
+                    element.style.setProperty(arguments[2] === 'inside' ? 'border' : 'outline', '5px solid ' + color, 'important');
+                    element.style.setProperty('outline-offset', arguments[3] + 'px', 'important');
+                    if (arguments[4]) {
+                        element.style.setProperty('z-index', '999999', 'important');
+                    }
+                }
+            });
+            return !sheet;
+            """;
+    /**
+     * Removes the highlight from every element marked with one of the locators passed as the first argument,
+     * or from every element if the first argument is null. An inline highlight is removed by restoring the
+     * element's original style.
+     */
+    private static final String REMOVE_HIGHLIGHT_SCRIPT = """
+            document.querySelectorAll('[data-webdriver-highlight]').forEach(element => {
+                if (arguments[0] === null || arguments[0].includes(element.getAttribute('data-webdriver-highlight'))) {
+                    element.removeAttribute('data-webdriver-highlight');
+                    element.removeAttribute('data-webdriver-highlight-location');
+                    element.removeAttribute('data-webdriver-highlight-offset');
+                    element.removeAttribute('data-webdriver-highlight-lift');
+                    if (element.hasAttribute('data-webdriver-highlight-style')) {
+                        const original = element.getAttribute('data-webdriver-highlight-style');
+                        if (original) {
+                            element.setAttribute('style', original);
+                        } else {
+                            element.removeAttribute('style');
+                        }
+                        element.removeAttribute('data-webdriver-highlight-style');
+                    }
+                }
+            });
+            """;
     private int defaultOffset = 10;
-    private Map<String, String> originalStyles = new HashMap<>();
 
     public HighlightDecorator() {
         super(null);
@@ -52,82 +144,87 @@ public class HighlightDecorator extends AutomatedBrowserBase {
 
     @Override
     public void elementHighlightIfExists(final String location, final String lift, final String locator, final String offset, final int waitTime, final String ifExistsOption) {
-        try {
-            if (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.DISABLE_HIGHLIGHTS, false)) {
-                if (waitTime != getDefaultExplicitWaitTime()) {
-                    LOGGER.info("A highlight step has a custom wait time that is ignored because highlighting " +
-                            "is disabled. If this step was used to wait for an element to be visible, the scenario " +
-                            "may not work as expected.");
-                }
-                return;
+        elementsHighlightIfExists(location, lift, List.of(locator), offset, waitTime, ifExistsOption);
+    }
+
+    @Override
+    public void elementsHighlightIfExists(final String location, final String lift, final List<String> locators, final String offset, final int waitTime, final String ifExistsOption) {
+        if (CONFIGURATION_SERVICE.getConfiguration().isDisableHighlights()) {
+            if (waitTime != getDefaultExplicitWaitTime()) {
+                LOGGER.info("A highlight step has a custom wait time that is ignored because highlighting " +
+                        "is disabled. If this step was used to wait for an element to be visible, the scenario " +
+                        "may not work as expected.");
             }
+            return;
+        }
 
-            final int offsetValue = NumberUtils.toInt(offset, defaultOffset);
-
-            // This will catch StaleElementReferenceException exceptions and attempt to apply the highlight again
-            RETRY_SERVICE.getTemplate().execute((RetryCallback<Void, WebElementException>)  context -> {
-                final WebElement element = SIMPLE_BY.getElement(
-                        getWebDriver(),
-                        locator,
-                        waitTime / 3,
-                        ExpectedConditions::presenceOfElementLocated);
-
-                originalStyles.put(locator, element.getAttribute("style"));
-
-                if (StringUtils.equals(StringUtils.trim(location), "inside")) {
-                    ((JavascriptExecutor) getWebDriver()).executeScript(
-                            """
-                                    arguments[0].style.border = '5px solid rgb(0, 204, 101)';
-                                    """ + (StringUtils.isBlank(lift) ? "" : "arguments[0].style['z-index'] = 999999;"),
-                            element);
-                } else {
-                    ((JavascriptExecutor) getWebDriver()).executeScript(
-                            """
-                                    arguments[0].style.outline = '5px solid rgb(0, 204, 101)';
-                                    arguments[0].style['outline-offset'] = '""" + offsetValue + "px';" + """
-                                    arguments[0].style['outline-style'] = 'solid';
-                                    """ + (StringUtils.isBlank(lift) ? "" : "arguments[0].style['z-index'] = 999999;"),
-                            element);
+        final String locationValue = StringUtils.equals(StringUtils.trim(location), "inside") ? "inside" : "outside";
+        final int offsetValue = NumberUtils.toInt(offset, defaultOffset);
+
+        // This will catch StaleElementReferenceException exceptions and attempt to apply the highlights again.
+        // All attempts, and all elements, share the one wait time.
+        final Deadline deadline = STEP_SCOPE.getDeadline(waitTime * 1000L);
+        STEP_SCOPE.runWithDeadline(deadline, () -> RETRY_SERVICE.getTemplate(3, 100, deadline)
+                .execute((RetryCallback<Void, WebElementException>) context -> {
+            final List<WebElement> elements = new ArrayList<>();
+            final List<String> foundLocators = new ArrayList<>();
+            for (final String locator : locators) {
+                try {
+                    elements.add(SIMPLE_BY.getElement(
+                            getWebDriver(),
+                            locator,
+                            waitTime,
+                            ExpectedConditions::presenceOfElementLocated));
+                    foundLocators.add(locator);
+                } catch (final WebElementException ex) {
+                    if (StringUtils.isEmpty(ifExistsOption)) {
+                        throw ex;
+                    }
                 }
+            }
 
-                return null;
-            });
-        } catch (final WebElementException ex) {
-            if (StringUtils.isEmpty(ifExistsOption)) {
-                throw ex;
+            if (!elements.isEmpty()) {
+                final Object inline = ((JavascriptExecutor) getWebDriver()).executeScript(
+                        HIGHLIGHT_SCRIPT,
+                        elements,
+                        foundLocators,
+                        locationValue,
+                        offsetValue,
+                        StringUtils.isNotBlank(lift));
+                if (Boolean.TRUE.equals(inline)) {
+                    LOGGER.fine("The page blocked the highlight stylesheet, so the elements were highlighted with their inline style");
+                }
             }
-        }
+
+            return null;
+        }));
     }
 
     @Override
     public void removeElementHighlight(final String locator, final String ifExistsOption) {
-        removeElementHighlight(locator, getDefaultExplicitWaitTime(), ifExistsOption);
+        removeElementHighlights(List.of(locator));
     }
 
     @Override
     public void removeElementHighlight(final String locator, final int waitTime, final String ifExistsOption) {
-        if (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.DISABLE_HIGHLIGHTS, false)) {
-            return;
-        }
+        removeElementHighlights(List.of(locator));
+    }
 
-        try {
-            if (originalStyles.containsKey(locator)) {
-                final WebElement element = SIMPLE_BY.getElement(
-                        getWebDriver(),
-                        locator,
-                        waitTime,
-                        by -> ExpectedConditions.presenceOfElementLocated(by));
+    @Override
+    public void removeElementHighlights(final List<String> locators) {
+        removeHighlights(locators);
+    }
 
-                ((JavascriptExecutor) getWebDriver()).executeScript(
-                        "arguments[0].setAttribute('style', '" + originalStyles.get(locator) + "');",
-                        element);
+    @Override
+    public void removeAllElementHighlights() {
+        removeHighlights(null);
+    }
 
-                originalStyles.remove(locator);
-            }
-        } catch (final WebElementException ex) {
-            if (StringUtils.isEmpty(ifExistsOption)) {
-                throw ex;
-            }
+    private void removeHighlights(final List<String> locators) {
+        if (CONFIGURATION_SERVICE.getConfiguration().isDisableHighlights()) {
+            return;
         }
+
+        ((JavascriptExecutor) getWebDriver()).executeScript(REMOVE_HIGHLIGHT_SCRIPT, locators);
     }
 }
@@ -5,18 +5,15 @@ import com.octopus.Constants;
 import com.octopus.decoratorbase.AutomatedBrowserBase;
 import com.octopus.exceptions.WebElementException;
 import com.octopus.utils.*;
+import com.octopus.utils.impl.ConfigurationServiceImpl;
 import com.octopus.utils.impl.MouseMovementUtilsImpl;
-import com.octopus.utils.impl.RetryServiceImpl;
 import com.octopus.utils.impl.SimpleByImpl;
-import com.octopus.utils.impl.SystemPropertyUtilsImpl;
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
-import org.springframework.retry.RetryCallback;
 
 /**
  * This decorator wraps up commands that emulate end user interactions, and move the mouse to the element
@@ -30,21 +27,13 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
      */
     private static final MouseMovementUtils MOUSE_MOVEMENT_UTILS = new MouseMovementUtilsImpl();
     /**
-     * The shared SystemPropertyUtilsImpl instance.
+     * The shared ConfigurationServiceImpl instance.
      */
-    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
     /**
      * The shared SimpleByImpl instance.
      */
     private static final SimpleBy SIMPLE_BY = new SimpleByImpl();
-    /**
-     * The shared RetryServiceImpl instance.
-     */
-    private static final RetryService RETRY_SERVICE = new RetryServiceImpl();
-    /**
-     * A count of how many user interactions we simulated.
-     */
-    private int interactionCount = 0;
 
     private void glideMouse(
             final String locator,
@@ -116,8 +105,6 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void clickElementWithId(final String id) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -128,15 +115,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
         if (getAutomatedBrowser() != null) {
             getAutomatedBrowser().clickElementWithId(
                     id,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void clickElementWithId(final String id, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -147,15 +131,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
         if (getAutomatedBrowser() != null) {
             getAutomatedBrowser().clickElementWithId(
                     id,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithId(final String optionText, final String id) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -167,15 +148,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().selectOptionByTextFromSelectWithId(
                     optionText,
                     id,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithId(final String optionText, final String id, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -187,15 +165,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().selectOptionByTextFromSelectWithId(
                     optionText,
                     id,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void populateElementWithId(final String id, final String text) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -207,15 +182,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().populateElementWithId(
                     id,
                     text,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void populateElementWithId(final String id, final String text, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -227,15 +199,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().populateElementWithId(
                     id,
                     text,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void clickElementWithXPath(final String xpath) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -246,15 +215,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
         if (getAutomatedBrowser() != null) {
             getAutomatedBrowser().clickElementWithXPath(
                     xpath,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void clickElementWithXPath(final String xpath, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -265,15 +231,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
         if (getAutomatedBrowser() != null) {
             getAutomatedBrowser().clickElementWithXPath(
                     xpath,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithXPath(final String optionText, final String xpath) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -285,15 +248,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().selectOptionByTextFromSelectWithXPath(
                     optionText,
                     xpath,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithXPath(final String optionText, final String xpath, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -305,15 +265,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().selectOptionByTextFromSelectWithXPath(
                     optionText,
                     xpath,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void populateElementWithXPath(final String xpath, final String text) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -325,15 +282,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().populateElementWithXPath(
                     xpath,
                     text,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void populateElementWithXPath(final String xpath, final String text, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -345,15 +299,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().populateElementWithXPath(
                     xpath,
                     text,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void clickElementWithCSSSelector(final String cssSelector) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -364,15 +315,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
         if (getAutomatedBrowser() != null) {
             getAutomatedBrowser().clickElementWithCSSSelector(
                     cssSelector,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void clickElementWithCSSSelector(final String cssSelector, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -383,15 +331,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
         if (getAutomatedBrowser() != null) {
             getAutomatedBrowser().clickElementWithCSSSelector(
                     cssSelector,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithCSSSelector(final String optionText, final String cssSelector) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -403,15 +348,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().selectOptionByTextFromSelectWithCSSSelector(
                     optionText,
                     cssSelector,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithCSSSelector(final String optionText, final String cssSelector, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -423,15 +365,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().selectOptionByTextFromSelectWithCSSSelector(
                     optionText,
                     cssSelector,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void populateElementWithCSSSelector(final String cssSelector, final String text) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -443,15 +382,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().populateElementWithCSSSelector(
                     cssSelector,
                     text,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void populateElementWithCSSSelector(final String cssSelector, final String text, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -463,15 +399,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().populateElementWithCSSSelector(
                     cssSelector,
                     text,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void clickElementWithName(final String name) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -482,15 +415,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
         if (getAutomatedBrowser() != null) {
             getAutomatedBrowser().clickElementWithName(
                     name,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void clickElementWithName(final String name, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -501,15 +431,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
         if (getAutomatedBrowser() != null) {
             getAutomatedBrowser().clickElementWithName(
                     name,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithName(final String optionText, final String name) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -521,15 +448,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().selectOptionByTextFromSelectWithName(
                     optionText,
                     name,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithName(final String optionText, final String name, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -541,15 +465,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().selectOptionByTextFromSelectWithName(
                     optionText,
                     name,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void populateElementWithName(final String name, final String text) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -561,15 +482,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().populateElementWithName(
                     name,
                     text,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime());
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime());
         }
     }
 
     @Override
     public void populateElementWithName(final String name, final String text, final int waitTime) {
-        ++interactionCount;
-
         MOUSE_MOVEMENT_UTILS.mouseGlide(
                 getWebDriver(),
                 (JavascriptExecutor) getWebDriver(),
@@ -581,15 +499,12 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             getAutomatedBrowser().populateElementWithName(
                     name,
                     text,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime);
+                    CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime);
         }
     }
 
     @Override
     public void clickElementIfExists(final String force, final String locator, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             MOUSE_MOVEMENT_UTILS.mouseGlide(
                     getWebDriver(),
@@ -609,8 +524,7 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
                 getAutomatedBrowser().clickElementIfExists(
                         force,
                         locator,
-                        SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                                Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime(),
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime(),
                         ifExistsOption);
             }
         } catch (final WebElementException ex) {
@@ -622,8 +536,6 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void clickElementIfExists(final String force, final String locator, final Integer waitTime, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             MOUSE_MOVEMENT_UTILS.mouseGlide(
                     getWebDriver(),
@@ -643,8 +555,7 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
                 getAutomatedBrowser().clickElementIfExists(
                         force,
                         locator,
-                        SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                                Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime,
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime,
                         ifExistsOption);
             }
         } catch (final WebElementException ex) {
@@ -656,8 +567,6 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void selectOptionByTextFromSelectIfExists(final String force, final String optionText, final String locator, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             MOUSE_MOVEMENT_UTILS.mouseGlide(
                     getWebDriver(),
@@ -675,8 +584,7 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
                         force,
                         optionText,
                         locator,
-                        SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                                Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime(),
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime(),
                         ifExistsOption);
             }
         } catch (final WebElementException ex) {
@@ -688,8 +596,6 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void selectOptionByTextFromSelectIfExists(final String force, final String optionText, final String locator, final int waitTime, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             MOUSE_MOVEMENT_UTILS.mouseGlide(
                     getWebDriver(),
@@ -707,8 +613,7 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
                         force,
                         optionText,
                         locator,
-                        SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                                Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime,
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime,
                         ifExistsOption);
             }
         } catch (final WebElementException ex) {
@@ -720,8 +625,6 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void selectOptionByValueFromSelectIfExists(final String force, final String optionValue, final String locator, final int waitTime, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             MOUSE_MOVEMENT_UTILS.mouseGlide(
                     getWebDriver(),
@@ -739,8 +642,7 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
                         force,
                         optionValue,
                         locator,
-                        SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                                Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime,
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime,
                         ifExistsOption);
             }
         } catch (final WebElementException ex) {
@@ -752,8 +654,6 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void populateElement(final String force, final String locator, final String keystrokeDelay, final String text, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             glideMouse(locator, getDefaultExplicitWaitTime(), ExpectedConditions::elementToBeClickable);
 
@@ -763,8 +663,7 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
                         locator,
                         keystrokeDelay,
                         text,
-                        SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                                Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime(),
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime(),
                         ifExistsOption);
             }
         } catch (final WebElementException ex) {
@@ -776,8 +675,6 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void populateElement(final String force, final String locator, final String keystrokeDelay, final String text, final int waitTime, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             glideMouse(locator, waitTime, ExpectedConditions::elementToBeClickable);
 
@@ -787,8 +684,7 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
                         locator,
                         keystrokeDelay,
                         text,
-                        SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                                Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime,
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime,
                         ifExistsOption);
             }
         } catch (final WebElementException ex) {
@@ -800,35 +696,15 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void mouseOverIfExists(final String force, final String locator, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             glideMouse(locator, getDefaultExplicitWaitTime(), ExpectedConditions::presenceOfElementLocated);
 
-            final Actions action = new Actions(getWebDriver());
-
-            if (StringUtils.isNotBlank(force)) {
-                final WebElement element = SIMPLE_BY.getElement(
-                        getWebDriver(),
+            if (getAutomatedBrowser() != null) {
+                getAutomatedBrowser().mouseOverIfExists(
+                        force,
                         locator,
-                        SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                                Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime(),
-                        ExpectedConditions::presenceOfElementLocated);
-                ((JavascriptExecutor) getWebDriver()).executeScript(
-                        "arguments[0].dispatchEvent(new Event('mouseover', { bubbles: true }))",
-                        element);
-            } else {
-                // Retry to address the org.openqa.selenium.StaleElementReferenceException exception
-                RETRY_SERVICE.getTemplate().execute((RetryCallback<Void, WebElementException>) context -> {
-                    final WebElement element = SIMPLE_BY.getElement(
-                            getWebDriver(),
-                            locator,
-                            SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                                    Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime(),
-                            ExpectedConditions::presenceOfElementLocated);
-                    action.moveToElement(element).perform();
-                    return null;
-                });
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime(),
+                        ifExistsOption);
             }
         } catch (final WebElementException ex) {
             if (StringUtils.isEmpty(ifExistsOption)) {
@@ -839,25 +715,15 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void mouseOverIfExists(final String force, final String locator, final int waitTime, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             glideMouse(locator, waitTime, ExpectedConditions::presenceOfElementLocated);
 
-            final Actions action = new Actions(getWebDriver());
-            final WebElement element = SIMPLE_BY.getElement(
-                    getWebDriver(),
-                    locator,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime,
-                    ExpectedConditions::presenceOfElementLocated);
-
-            if (StringUtils.isNotBlank(force)) {
-                ((JavascriptExecutor) getWebDriver()).executeScript(
-                        "arguments[0].dispatchEvent(new Event('mouseover', { bubbles: true }))",
-                        element);
-            } else {
-                action.moveToElement(element).perform();
+            if (getAutomatedBrowser() != null) {
+                getAutomatedBrowser().mouseOverIfExists(
+                        force,
+                        locator,
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime,
+                        ifExistsOption);
             }
         } catch (final WebElementException ex) {
             if (StringUtils.isEmpty(ifExistsOption)) {
@@ -868,24 +734,15 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void focusIfExists(final String force, final String locator, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             glideMouse(locator, getDefaultExplicitWaitTime(), ExpectedConditions::presenceOfElementLocated);
 
-            final Actions action = new Actions(getWebDriver());
-            final WebElement element = SIMPLE_BY.getElement(
-                    getWebDriver(),
-                    locator,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : getDefaultExplicitWaitTime(),
-                    ExpectedConditions::presenceOfElementLocated);
-            if (StringUtils.isNotBlank(force)) {
-                ((JavascriptExecutor) getWebDriver()).executeScript(
-                        "arguments[0].dispatchEvent(new Event('focus', { bubbles: true }))",
-                        element);
-            } else {
-                action.moveToElement(element).perform();
+            if (getAutomatedBrowser() != null) {
+                getAutomatedBrowser().focusIfExists(
+                        force,
+                        locator,
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : getDefaultExplicitWaitTime(),
+                        ifExistsOption);
             }
         } catch (final WebElementException ex) {
             if (StringUtils.isEmpty(ifExistsOption)) {
@@ -896,25 +753,15 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
 
     @Override
     public void focusIfExists(final String force, final String locator, final int waitTime, final String ifExistsOption) {
-        ++interactionCount;
-
         try {
             glideMouse(locator, waitTime, ExpectedConditions::presenceOfElementLocated);
 
-            final Actions action = new Actions(getWebDriver());
-            final WebElement element = SIMPLE_BY.getElement(
-                    getWebDriver(),
-                    locator,
-                    SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                            Constants.MOVE_CURSOR_TO_ELEMENT, false) ? 0 : waitTime,
-                    ExpectedConditions::presenceOfElementLocated);
-
-            if (StringUtils.isNotBlank(force)) {
-                ((JavascriptExecutor) getWebDriver()).executeScript(
-                        "arguments[0].dispatchEvent(new Event('focus', { bubbles: true }))",
-                        element);
-            } else {
-                action.moveToElement(element).perform();
+            if (getAutomatedBrowser() != null) {
+                getAutomatedBrowser().focusIfExists(
+                        force,
+                        locator,
+                        CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement() ? 0 : waitTime,
+                        ifExistsOption);
             }
         } catch (final WebElementException ex) {
             if (StringUtils.isEmpty(ifExistsOption)) {
@@ -922,11 +769,4 @@ public class MouseMovementDecorator extends AutomatedBrowserBase {
             }
         }
     }
-
-    /**
-     * @return the number of user interactions we have simulated.
-     */
-    public int getInteractionCount() {
-        return interactionCount;
-    }
 }
@@ -2,6 +2,7 @@ package com.octopus.decorators;
 
 import com.octopus.Constants;
 import com.octopus.decoratorbase.AutomatedBrowserBase;
+import com.octopus.exceptions.BrowserException;
 import com.octopus.exceptions.InteractionException;
 import com.octopus.exceptions.SaveException;
 import com.octopus.exceptions.ValidationException;
@@ -15,16 +16,20 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.*;
+import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.retry.RetryCallback;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -43,8 +48,56 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
     private static final ScreenRecorderService SCREEN_RECORDER_SERVICE = new ScreenRecorderServiceImpl();
     private static final OSUtils OS_UTILS = new OSUtilsImpl();
     private static final RetryService RETRY_SERVICE = new RetryServiceImpl();
+    private static final StepScope STEP_SCOPE = new StepScopeImpl();
+    private static final ElementAbsenceWait ELEMENT_ABSENCE_WAIT = new ElementAbsenceWaitImpl();
+    private static final MouseMovementUtils MOUSE_MOVEMENT_UTILS = new MouseMovementUtilsImpl();
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
+    private static final UrlUtils URL_UTILS = new UrlUtilsImpl();
+    /**
+     * Clears the storage of the current origin. IndexedDB, service workers and caches are asynchronous APIs,
+     * so the script completes once they have all finished.
+     */
+    private static final String CLEAR_STORAGE_SCRIPT = """
+            const callback = arguments[arguments.length - 1];
+            const tasks = [];
+            try { window.localStorage.clear(); } catch (e) {}
+            try { window.sessionStorage.clear(); } catch (e) {}
+            try {
+                if (window.indexedDB && window.indexedDB.databases) {
+                    tasks.push(window.indexedDB.databases().then(dbs => Promise.all(dbs.map(db => new Promise(resolve => {
+                        const request = window.indexedDB.deleteDatabase(db.name);
+                        request.onsuccess = request.onerror = request.onblocked = resolve;
+                    })))));
+                }
+                if (navigator.serviceWorker) {
+                    tasks.push(navigator.serviceWorker.getRegistrations()
+                        .then(registrations => Promise.all(registrations.map(r => r.unregister()))));
+                }
+                if (window.caches) {
+                    tasks.push(window.caches.keys().then(keys => Promise.all(keys.map(k => window.caches.delete(k)))));
+                }
+            } catch (e) {}
+            Promise.all(tasks.map(t => t.catch(() => null))).then(() => callback(true));
+            """;
     private int defaultExplicitWaitTime;
     private WebDriver webDriver;
+    /**
+     * The window the browser was opened with, which is kept when the browser is reset.
+     */
+    private String initialWindowHandle;
+    /**
+     * The window size the browser was opened with, which is restored when the browser is reset.
+     */
+    private Dimension initialWindowSize;
+    /**
+     * The origins the browser was seen to navigate to since it was initialised or last reset. A failed reset keeps
+     * the origins, so every later reset fails too, and the browser is destroyed rather than reused.
+     */
+    private final Set<String> visitedOrigins = new LinkedHashSet<>();
+    /**
+     * A count of how many user interactions we simulated.
+     */
+    private int interactionCount = 0;
 
     public WebDriverDecorator() {
         super(null);
@@ -70,6 +123,57 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         this.webDriver = webDriver;
     }
 
+    @Override
+    public void init() {
+        super.init();
+
+        visitedOrigins.clear();
+        if (webDriver != null) {
+            initialWindowHandle = Try.of(webDriver::getWindowHandle).getOrNull();
+            initialWindowSize = Try.of(() -> webDriver.manage().window().getSize()).getOrNull();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+
+        if (webDriver == null) {
+            return;
+        }
+
+        final Set<String> handles = webDriver.getWindowHandles();
+        final String keepHandle = handles.contains(initialWindowHandle) ? initialWindowHandle : handles.iterator().next();
+        for (final String handle : handles) {
+            if (!handle.equals(keepHandle)) {
+                // Popups, like single sign on windows, leave cookies for their origin too
+                recordOrigin(Try.of(() -> webDriver.switchTo().window(handle).getCurrentUrl()).getOrNull());
+                webDriver.switchTo().window(handle).close();
+            }
+        }
+        webDriver.switchTo().window(keepHandle);
+        recordOrigin(Try.of(webDriver::getCurrentUrl).getOrNull());
+
+        // Cookies and storage can only be cleared for the current origin, so a browser that visited any other
+        // origin can not be cleaned without a relaunch
+        if (visitedOrigins.size() > 1) {
+            final String origins = String.join(", ", visitedOrigins);
+            throw new BrowserException("The browser can not be reset as it visited more than one origin: " + origins);
+        }
+        visitedOrigins.clear();
+
+        // Storage is scoped to the origin, so it must be cleared before navigating away from the page
+        Try.run(() -> ((JavascriptExecutor) webDriver).executeAsyncScript(CLEAR_STORAGE_SCRIPT))
+                .onFailure(ex -> LOGGER.warning("Failed to clear the browser storage: " + ex));
+        webDriver.manage().deleteAllCookies();
+
+        if (initialWindowSize != null && !initialWindowSize.equals(webDriver.manage().window().getSize())) {
+            webDriver.manage().window().setSize(initialWindowSize);
+        }
+
+        webDriver.get("about:blank");
+    }
+
     @Override
     public void destroy() {
         if (getAutomatedBrowser() != null) {
@@ -89,6 +193,10 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         }
     }
 
+    private void recordOrigin(final String url) {
+        URL_UTILS.getOrigin(url).ifPresent(visitedOrigins::add);
+    }
+
     public static void staticStopScreenRecording() {
         SCREEN_RECORDER_SERVICE.stop();
     }
@@ -100,6 +208,7 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
 
     @Override
     public void goTo(final String url) {
+        recordOrigin(url);
         webDriver.get(url);
     }
 
@@ -115,7 +224,7 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
 
     @Override
     public CompletableFuture<Void> takeScreenshot(final String file, boolean force, final String captureArtifact) {
-        if (!force && SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.DISABLE_SCREENSHOTS, false) || webDriver == null) {
+        if (!force && CONFIGURATION_SERVICE.getConfiguration().isDisableScreenshots() || webDriver == null) {
             return CompletableFuture.completedFuture(null);
         }
 
@@ -175,7 +284,8 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
     @Override
     public void clickElementWithId(final String id) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            webDriver.findElement(By.id(id)).click();
+            ++interactionCount;
+            afterMouseGlide(webDriver.findElement(By.id(id))).click();
         } else {
             clickElementWithId(id, getDefaultExplicitWaitTime());
         }
@@ -186,15 +296,17 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             clickElementWithId(id);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            wait.until(ExpectedConditions.elementToBeClickable((By.id(id)))).click();
+            afterMouseGlide(wait.until(ExpectedConditions.elementToBeClickable((By.id(id))))).click();
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithId(final String optionText, final String selectId) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            new Select(webDriver.findElement(By.id(selectId))).selectByVisibleText(optionText);
+            ++interactionCount;
+            new Select(afterMouseGlide(webDriver.findElement(By.id(selectId)))).selectByVisibleText(optionText);
         } else {
             selectOptionByTextFromSelectWithId(optionText, selectId, getDefaultExplicitWaitTime());
         }
@@ -205,15 +317,17 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             selectOptionByTextFromSelectWithId(optionText, id);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            new Select(wait.until(ExpectedConditions.elementToBeClickable((By.id(id))))).selectByVisibleText(optionText);
+            new Select(afterMouseGlide(wait.until(ExpectedConditions.elementToBeClickable((By.id(id)))))).selectByVisibleText(optionText);
         }
     }
 
     @Override
     public void populateElementWithId(final String id, final String text) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            webDriver.findElement(By.id(id)).sendKeys(text);
+            ++interactionCount;
+            afterMouseGlide(webDriver.findElement(By.id(id))).sendKeys(text);
         } else {
             populateElementWithId(id, text, getDefaultExplicitWaitTime());
         }
@@ -224,8 +338,9 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             populateElementWithId(id, text);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            wait.until(ExpectedConditions.presenceOfElementLocated((By.id(id)))).sendKeys(text);
+            afterMouseGlide(wait.until(ExpectedConditions.presenceOfElementLocated((By.id(id))))).sendKeys(text);
         }
     }
 
@@ -257,7 +372,8 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
     @Override
     public void clickElementWithXPath(final String xpath) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            webDriver.findElement(By.xpath(xpath)).click();
+            ++interactionCount;
+            afterMouseGlide(webDriver.findElement(By.xpath(xpath))).click();
         } else {
             clickElementWithXPath(xpath, getDefaultExplicitWaitTime());
         }
@@ -268,15 +384,17 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             clickElementWithXPath(xpath);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            wait.until(ExpectedConditions.elementToBeClickable((By.xpath(xpath)))).click();
+            afterMouseGlide(wait.until(ExpectedConditions.elementToBeClickable((By.xpath(xpath))))).click();
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithXPath(final String optionText, final String xpath) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            new Select(webDriver.findElement(By.xpath(xpath))).selectByVisibleText(optionText);
+            ++interactionCount;
+            new Select(afterMouseGlide(webDriver.findElement(By.xpath(xpath)))).selectByVisibleText(optionText);
         } else {
             selectOptionByTextFromSelectWithXPath(optionText, xpath, getDefaultExplicitWaitTime());
         }
@@ -287,15 +405,17 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             selectOptionByTextFromSelectWithXPath(optionText, xpath);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            new Select(wait.until(ExpectedConditions.elementToBeClickable((By.xpath(xpath))))).selectByVisibleText(optionText);
+            new Select(afterMouseGlide(wait.until(ExpectedConditions.elementToBeClickable((By.xpath(xpath)))))).selectByVisibleText(optionText);
         }
     }
 
     @Override
     public void populateElementWithXPath(final String xpath, final String text) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            webDriver.findElement(By.xpath(xpath)).sendKeys(text);
+            ++interactionCount;
+            afterMouseGlide(webDriver.findElement(By.xpath(xpath))).sendKeys(text);
         } else {
             populateElementWithXPath(xpath, text, getDefaultExplicitWaitTime());
         }
@@ -306,8 +426,9 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             populateElementWithXPath(xpath, text);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            wait.until(ExpectedConditions.presenceOfElementLocated((By.xpath(xpath)))).sendKeys(text);
+            afterMouseGlide(wait.until(ExpectedConditions.presenceOfElementLocated((By.xpath(xpath))))).sendKeys(text);
         }
     }
 
@@ -339,7 +460,8 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
     @Override
     public void clickElementWithCSSSelector(final String cssSelector) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            webDriver.findElement(By.cssSelector(cssSelector)).click();
+            ++interactionCount;
+            afterMouseGlide(webDriver.findElement(By.cssSelector(cssSelector))).click();
         } else {
             clickElementWithCSSSelector(cssSelector, getDefaultExplicitWaitTime());
         }
@@ -350,15 +472,17 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             clickElementWithCSSSelector(css);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            wait.until(ExpectedConditions.elementToBeClickable((By.cssSelector(css)))).click();
+            afterMouseGlide(wait.until(ExpectedConditions.elementToBeClickable((By.cssSelector(css))))).click();
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithCSSSelector(final String optionText, final String cssSelector) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            new Select(webDriver.findElement(By.cssSelector(cssSelector))).selectByVisibleText(optionText);
+            ++interactionCount;
+            new Select(afterMouseGlide(webDriver.findElement(By.cssSelector(cssSelector)))).selectByVisibleText(optionText);
         } else {
             selectOptionByTextFromSelectWithCSSSelector(optionText, cssSelector, getDefaultExplicitWaitTime());
         }
@@ -370,15 +494,17 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             selectOptionByTextFromSelectWithCSSSelector(optionText, css);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            new Select(wait.until(ExpectedConditions.elementToBeClickable((By.cssSelector(css))))).selectByVisibleText(optionText);
+            new Select(afterMouseGlide(wait.until(ExpectedConditions.elementToBeClickable((By.cssSelector(css)))))).selectByVisibleText(optionText);
         }
     }
 
     @Override
     public void populateElementWithCSSSelector(final String cssSelector, final String text) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            webDriver.findElement(By.cssSelector(cssSelector)).sendKeys(text);
+            ++interactionCount;
+            afterMouseGlide(webDriver.findElement(By.cssSelector(cssSelector))).sendKeys(text);
         } else {
             populateElementWithCSSSelector(cssSelector, text, getDefaultExplicitWaitTime());
         }
@@ -389,8 +515,9 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             populateElementWithCSSSelector(css, text);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            wait.until(ExpectedConditions.presenceOfElementLocated((By.cssSelector(css)))).sendKeys(text);
+            afterMouseGlide(wait.until(ExpectedConditions.presenceOfElementLocated((By.cssSelector(css))))).sendKeys(text);
         }
     }
 
@@ -422,7 +549,8 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
     @Override
     public void clickElementWithName(final String name) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            webDriver.findElement(By.name(name)).click();
+            ++interactionCount;
+            afterMouseGlide(webDriver.findElement(By.name(name))).click();
         } else {
             clickElementWithName(name, getDefaultExplicitWaitTime());
         }
@@ -433,15 +561,17 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             clickElementWithName(name);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            wait.until(ExpectedConditions.elementToBeClickable((By.name(name)))).click();
+            afterMouseGlide(wait.until(ExpectedConditions.elementToBeClickable((By.name(name))))).click();
         }
     }
 
     @Override
     public void selectOptionByTextFromSelectWithName(final String optionText, final String name) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            new Select(webDriver.findElement(By.name(name))).selectByVisibleText(optionText);
+            ++interactionCount;
+            new Select(afterMouseGlide(webDriver.findElement(By.name(name)))).selectByVisibleText(optionText);
         } else {
             selectOptionByTextFromSelectWithName(optionText, name, getDefaultExplicitWaitTime());
         }
@@ -452,15 +582,17 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             selectOptionByTextFromSelectWithName(name, optionText);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            new Select(wait.until(ExpectedConditions.elementToBeClickable((By.name(name))))).selectByVisibleText(optionText);
+            new Select(afterMouseGlide(wait.until(ExpectedConditions.elementToBeClickable((By.name(name)))))).selectByVisibleText(optionText);
         }
     }
 
     @Override
     public void populateElementWithName(final String name, final String text) {
         if (getDefaultExplicitWaitTime() <= 0) {
-            webDriver.findElement(By.name(name)).sendKeys(text);
+            ++interactionCount;
+            afterMouseGlide(webDriver.findElement(By.name(name))).sendKeys(text);
         } else {
             populateElementWithName(name, text, getDefaultExplicitWaitTime());
         }
@@ -471,8 +603,9 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         if (waitTime <= 0) {
             populateElementWithName(name, text);
         } else {
+            ++interactionCount;
             final WebDriverWait wait = new WebDriverWait(webDriver, waitTime);
-            wait.until(ExpectedConditions.presenceOfElementLocated((By.name(name)))).sendKeys(text);
+            afterMouseGlide(wait.until(ExpectedConditions.presenceOfElementLocated((By.name(name))))).sendKeys(text);
         }
     }
 
@@ -538,6 +671,8 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
 
     @Override
     public void clickElementIfExists(final String force, final String locator, final Integer waitTime, final String ifExistsOption) {
+        ++interactionCount;
+
         try {
             if (force != null) {
                 final WebElement element = SIMPLE_BY.getElement(
@@ -545,16 +680,19 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
                         locator,
                         ObjectUtils.defaultIfNull(waitTime, getDefaultExplicitWaitTime()),
                         ExpectedConditions::presenceOfElementLocated);
-                ((JavascriptExecutor) getWebDriver()).executeScript("arguments[0].click();", element);
+                ((JavascriptExecutor) getWebDriver()).executeScript("arguments[0].click();", afterMouseGlide(element));
             } else {
-                RETRY_SERVICE.getTemplate(3, 1000).execute(context -> {
-                    SIMPLE_BY.getElement(
+                // The retries share the wait time rather than each waiting the full time
+                final int clickWaitTime = ObjectUtils.defaultIfNull(waitTime, getDefaultExplicitWaitTime());
+                final Deadline deadline = STEP_SCOPE.getDeadline(clickWaitTime * 1000L);
+                STEP_SCOPE.runWithDeadline(deadline, () -> RETRY_SERVICE.getTemplate(3, 1000, deadline).execute(context -> {
+                    afterMouseGlide(SIMPLE_BY.getElement(
                             getWebDriver(),
                             locator,
-                            ObjectUtils.defaultIfNull(waitTime, getDefaultExplicitWaitTime()),
-                            ExpectedConditions::elementToBeClickable).click();
+                            clickWaitTime,
+                            ExpectedConditions::elementToBeClickable)).click();
                     return null;
-                });
+                }));
             }
         } catch (final WebElementException ex) {
             if (StringUtils.isEmpty(ifExistsOption)) {
@@ -570,6 +708,8 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
 
     @Override
     public void selectOptionByTextFromSelectIfExists(final String force, final String optionText, final String locator, final int waitTime, final String ifExistsOption) {
+        ++interactionCount;
+
         try {
             if (StringUtils.isNotBlank(force)) {
                 final WebElement select = SIMPLE_BY.getElement(
@@ -585,13 +725,13 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
                                 break;
                             }
                         }
-                        """, select, optionText);
+                        """, afterMouseGlide(select), optionText);
             } else {
-                new Select(SIMPLE_BY.getElement(
+                new Select(afterMouseGlide(SIMPLE_BY.getElement(
                         getWebDriver(),
                         locator,
                         waitTime,
-                        ExpectedConditions::elementToBeClickable)).selectByVisibleText(optionText);
+                        ExpectedConditions::elementToBeClickable))).selectByVisibleText(optionText);
             }
         } catch (final WebElementException ex) {
             if (StringUtils.isEmpty(ifExistsOption)) {
@@ -607,6 +747,8 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
 
     @Override
     public void selectOptionByValueFromSelectIfExists(final String force, final String optionValue, final String locator, final int waitTime, final String ifExistsOption) {
+        ++interactionCount;
+
         try {
             if (StringUtils.isNotBlank(force)) {
                 final WebElement select = SIMPLE_BY.getElement(
@@ -616,13 +758,13 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
                         ExpectedConditions::presenceOfElementLocated);
                 ((JavascriptExecutor) getWebDriver()).executeScript("""
                         arguments[0].value = arguments[1]
-                    """, select, optionValue);
+                    """, afterMouseGlide(select), optionValue);
             } else {
-                new Select(SIMPLE_BY.getElement(
+                new Select(afterMouseGlide(SIMPLE_BY.getElement(
                         getWebDriver(),
                         locator,
                         waitTime,
-                        ExpectedConditions::elementToBeClickable)).selectByValue(optionValue);
+                        ExpectedConditions::elementToBeClickable))).selectByValue(optionValue);
             }
         } catch (final WebElementException ex) {
             if (StringUtils.isEmpty(ifExistsOption)) {
@@ -638,6 +780,8 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
 
     @Override
     public void populateElement(final String force, final String locator, final String keystrokeDelay, final String text, final int waitTime, final String ifExistsOption) {
+        ++interactionCount;
+
         try {
             populateElementWithText(
                     force,
@@ -679,6 +823,74 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         }
     }
 
+    @Override
+    public void mouseOverIfExists(final String force, final String locator, final String ifExistsOption) {
+        mouseOverIfExists(force, locator, getDefaultExplicitWaitTime(), ifExistsOption);
+    }
+
+    @Override
+    public void mouseOverIfExists(final String force, final String locator, final int waitTime, final String ifExistsOption) {
+        ++interactionCount;
+
+        try {
+            if (StringUtils.isNotBlank(force)) {
+                final WebElement element = SIMPLE_BY.getElement(
+                        getWebDriver(),
+                        locator,
+                        waitTime,
+                        ExpectedConditions::presenceOfElementLocated);
+                ((JavascriptExecutor) getWebDriver()).executeScript(
+                        "arguments[0].dispatchEvent(new Event('mouseover', { bubbles: true }))",
+                        afterMouseGlide(element));
+            } else {
+                // Retry to address the org.openqa.selenium.StaleElementReferenceException exception
+                RETRY_SERVICE.getTemplate(3, 100, STEP_SCOPE.getDeadline()).execute((RetryCallback<Void, WebElementException>) context -> {
+                    final WebElement element = SIMPLE_BY.getElement(
+                            getWebDriver(),
+                            locator,
+                            waitTime,
+                            ExpectedConditions::presenceOfElementLocated);
+                    new Actions(getWebDriver()).moveToElement(afterMouseGlide(element)).perform();
+                    return null;
+                });
+            }
+        } catch (final WebElementException ex) {
+            if (StringUtils.isEmpty(ifExistsOption)) {
+                throw ex;
+            }
+        }
+    }
+
+    @Override
+    public void focusIfExists(final String force, final String locator, final String ifExistsOption) {
+        focusIfExists(force, locator, getDefaultExplicitWaitTime(), ifExistsOption);
+    }
+
+    @Override
+    public void focusIfExists(final String force, final String locator, final int waitTime, final String ifExistsOption) {
+        ++interactionCount;
+
+        try {
+            final WebElement element = afterMouseGlide(SIMPLE_BY.getElement(
+                    getWebDriver(),
+                    locator,
+                    waitTime,
+                    ExpectedConditions::presenceOfElementLocated));
+
+            if (StringUtils.isNotBlank(force)) {
+                ((JavascriptExecutor) getWebDriver()).executeScript(
+                        "arguments[0].dispatchEvent(new Event('focus', { bubbles: true }))",
+                        element);
+            } else {
+                new Actions(getWebDriver()).moveToElement(element).perform();
+            }
+        } catch (final WebElementException ex) {
+            if (StringUtils.isEmpty(ifExistsOption)) {
+                throw ex;
+            }
+        }
+    }
+
     @Override
     public void clearIfExists(final String force, final String locator, final String ifExistsOption) {
         clearIfExists(force, locator, getDefaultExplicitWaitTime(), ifExistsOption);
@@ -829,19 +1041,7 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
 
     @Override
     public void verifyElementDoesNotExist(String locator, int waitTime) {
-        final long startTime = System.currentTimeMillis();
-
-        while (System.currentTimeMillis() < startTime + waitTime * 1000) {
-            if (Try.of(() -> SIMPLE_BY.getElement(
-                    getWebDriver(),
-                    locator,
-                    0,
-                    ExpectedConditions::presenceOfElementLocated)).isFailure()) {
-                return;
-            }
-        }
-
-        throw new WebElementException("Element located by " + locator + " was still present after " + waitTime + " seconds");
+        ELEMENT_ABSENCE_WAIT.awaitAbsence(getWebDriver(), locator, waitTime);
     }
 
     @Override
@@ -913,7 +1113,10 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
                     locator,
                     waitTime,
                     ExpectedConditions::presenceOfElementLocated);
-            ((JavascriptExecutor) getWebDriver()).executeScript("""
+            // This doesn't use ElementGeometryService, which measures the element against the window. The element
+            // is scrolled within its nearest scrollable ancestor, whose position and scroll offset are read and
+            // changed by the same script that animates the scroll.
+            final Object scrolled = ((JavascriptExecutor) getWebDriver()).executeScript("""
                             var getScrollParent = function () {
                                 var regex = /(auto|scroll)/;
 
@@ -993,7 +1196,7 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
                                 var easing = function (t) { return t<.5 ? 4*t*t*t : (t-1)*(2*t-2)*(2*t-2)+1 }
                                 var start
 
-                                if (!diff) return
+                                if (!diff) return 0
                                 // Bootstrap our animation - it will get called right before next frame shall be rendered.
                                 window.requestAnimationFrame(function step(timestamp) {
                                     if (!start) start = timestamp
@@ -1012,13 +1215,17 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
                                         window.requestAnimationFrame(step)
                                     }
                                 })
+                                return diff
                             }
-                            doScrolling(arguments[0], arguments[1], arguments[2]);
+                            return doScrolling(arguments[0], arguments[1], arguments[2]);
                             """,
                     element,
                     Integer.parseInt(offset == null ? "0" : offset),
                     scrollTime);
-            Try.run(() -> Thread.sleep(scrollTime));
+            // There is no animation to wait for if the element was already in position
+            if (!(scrolled instanceof Number) || ((Number) scrolled).doubleValue() != 0) {
+                Try.run(() -> Thread.sleep(scrollTime));
+            }
         } catch (final WebElementException ex) {
             if (StringUtils.isEmpty(ifExistsOption)) {
                 throw ex;
@@ -1265,7 +1472,26 @@ public class WebDriverDecorator extends AutomatedBrowserBase {
         return ((JavascriptExecutor) getWebDriver()).executeScript(code);
     }
 
+    /**
+     * @return the number of user interactions we have simulated.
+     */
+    @Override
+    public int getInteractionCount() {
+        return interactionCount;
+    }
+
+    /**
+     * Wait for the mouse cursor to reach the element before interacting with it. The MouseMovementDecorator starts
+     * moving the cursor before calling this decorator, so the element is resolved while the cursor is moving.
+     */
+    private WebElement afterMouseGlide(final WebElement element) {
+        MOUSE_MOVEMENT_UTILS.awaitGlide();
+        return element;
+    }
+
     private void populateElementWithText(final String force, final String text, final WebElement element, final int keystrokeDelay) {
+        MOUSE_MOVEMENT_UTILS.awaitGlide();
+
         if (StringUtils.isNotBlank(force)) {
             /*
                 Populating form fields with React is not as simple as it seems.
@@ -0,0 +1,62 @@
+package com.octopus.stephandlers.impl;
+
+import com.octopus.Constants;
+import com.octopus.utils.Deadline;
+import com.octopus.utils.StepScope;
+import com.octopus.utils.SystemPropertyUtils;
+import com.octopus.utils.impl.StepScopeImpl;
+import com.octopus.utils.impl.SystemPropertyUtilsImpl;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * A step handler that gives each step a deadline, shared by every wait made while the step runs. The deadline is
+ * the stepTimeout system property if it is set, and otherwise the wait time of the step's first lookup. This is a
+ * concurrent listener so the events are received on the thread running the step.
+ */
+public class StepDeadlineHandler implements ConcurrentEventListener {
+    /**
+     * The shared SystemPropertyUtilsImpl instance.
+     */
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * The shared StepScopeImpl instance.
+     */
+    private static final StepScope STEP_SCOPE = new StepScopeImpl();
+    /**
+     * The maximum time each step can spend waiting, in seconds.
+     */
+    private final int stepTimeout;
+
+    /**
+     * Default constructor.
+     */
+    public StepDeadlineHandler() {
+        stepTimeout = SYSTEM_PROPERTY_UTILS.getPropertyAsInt(Constants.STEP_TIMEOUT, 0);
+    }
+
+    private void handleTestStepStarted(final TestStepStarted event) {
+        if (!(event.getTestStep() instanceof PickleStepTestStep)) {
+            return;
+        }
+
+        if (stepTimeout > 0) {
+            STEP_SCOPE.startStep(Deadline.afterSeconds(stepTimeout));
+        } else {
+            STEP_SCOPE.startStep();
+        }
+    }
+
+    private void handleTestStepFinished(final TestStepFinished event) {
+        STEP_SCOPE.endStep();
+    }
+
+    @Override
+    public void setEventPublisher(final EventPublisher eventPublisher) {
+        eventPublisher.registerHandlerFor(TestStepStarted.class, this::handleTestStepStarted);
+        eventPublisher.registerHandlerFor(TestStepFinished.class, this::handleTestStepFinished);
+    }
+}
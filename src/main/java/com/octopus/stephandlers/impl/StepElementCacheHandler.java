@@ -0,0 +1,33 @@
+package com.octopus.stephandlers.impl;
+
+import com.octopus.utils.ElementCache;
+import com.octopus.utils.impl.ElementCacheImpl;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * A step handler that limits the cached elements to a single step. This is a concurrent listener so the events
+ * are received on the thread running the step.
+ */
+public class StepElementCacheHandler implements ConcurrentEventListener {
+    /**
+     * The shared ElementCacheImpl instance.
+     */
+    private static final ElementCache ELEMENT_CACHE = new ElementCacheImpl();
+
+    private void handleTestStepStarted(final TestStepStarted event) {
+        ELEMENT_CACHE.clear();
+    }
+
+    private void handleTestStepFinished(final TestStepFinished event) {
+        ELEMENT_CACHE.clear();
+    }
+
+    @Override
+    public void setEventPublisher(final EventPublisher eventPublisher) {
+        eventPublisher.registerHandlerFor(TestStepStarted.class, this::handleTestStepStarted);
+        eventPublisher.registerHandlerFor(TestStepFinished.class, this::handleTestStepFinished);
+    }
+}
@@ -0,0 +1,56 @@
+package com.octopus.utils;
+
+import java.util.Map;
+
+/**
+ * Defines a layer of aliases. Each layer reads through to its parent layer, with aliases in this layer hiding
+ * aliases of the same name in the parent.
+ */
+public interface AliasStore {
+    /**
+     * @param name The alias name
+     * @return true if this layer or a parent layer defines the alias, even if its value is null
+     */
+    boolean containsAlias(String name);
+
+    /**
+     * @param name The alias name
+     * @return The alias value from the first layer that defines it, or null if no layer defines it
+     */
+    String getAlias(String name);
+
+    /**
+     * Define an alias in this layer.
+     *
+     * @param name  The alias name
+     * @param value The alias value, which may be null
+     */
+    void putAlias(String name, String value);
+
+    /**
+     * Define a number of aliases in this layer.
+     *
+     * @param aliases The aliases to define
+     */
+    void putAliases(Map<String, String> aliases);
+
+    /**
+     * @return A number that changes whenever this layer or a parent layer changes
+     */
+    long getVersion();
+
+    /**
+     * @return An immutable copy of the aliases visible from this layer. The copy is only rebuilt when the version
+     * changes.
+     */
+    Map<String, String> getSnapshot();
+
+    /**
+     * Replace the #{name} references in a string with their alias values. If the whole string is an alias name,
+     * the alias value is used in place of the string before references are replaced.
+     *
+     * @param string The string to substitute
+     * @return The substituted string
+     */
+    String getSubstitutedString(String string);
+}
@@ -0,0 +1,21 @@
+package com.octopus.utils;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Defines a service that downloads and extracts zip archives into a persistent cache, so archives that have
+ * already been downloaded are not fetched again.
+ */
+public interface BinaryCache {
+    /**
+     * Return the directory holding the extracted contents of an archive, downloading and extracting it if
+     * it is not already in the cache.
+     *
+     * @param url            The URL of the zip archive
+     * @param expectedSha256 The expected SHA-256 checksum of the archive as a hex string, or null to skip verification
+     * @return The directory holding the extracted archive
+     * @throws IOException If the archive could not be downloaded or extracted, or the checksum did not match
+     */
+    File getExtractedArchive(String url, String expectedSha256) throws IOException;
+}
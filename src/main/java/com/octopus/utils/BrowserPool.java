@@ -0,0 +1,50 @@
+package com.octopus.utils;
+
+import com.octopus.AutomatedBrowser;
+
+/**
+ * Defines a service that keeps a number of initialised AutomatedBrowser instances for each browser profile,
+ * leasing them out to scenarios and taking them back when the scenario closes the browser.
+ */
+public interface BrowserPool {
+    /**
+     * @return true if the pool is enabled, and false otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Lease an initialised browser from the pool, creating a new one if no warm browser is available.
+     *
+     * @param browser The name of the browser profile, as passed to AutomatedBrowserFactory.getAutomatedBrowser()
+     * @return An initialised AutomatedBrowser
+     */
+    AutomatedBrowser lease(String browser);
+
+    /**
+     * Reset a leased browser and return it to the pool.
+     *
+     * @param automatedBrowser The browser that was returned by lease()
+     * @return true if the browser was leased from this pool, and false otherwise
+     */
+    boolean release(AutomatedBrowser automatedBrowser);
+
+    /**
+     * Destroy any idle browsers and log the pool statistics.
+     */
+    void shutdown();
+
+    /**
+     * Destroy any idle browsers, leaving the pool enabled.
+     */
+    void destroyIdleBrowsers();
+
+    /**
+     * @return The number of initialised browsers waiting to be leased
+     */
+    int getIdleBrowserCount();
+
+    /**
+     * @return A summary of the lease wait times, hit and miss counts, and warm up latency
+     */
+    String getStatistics();
+}
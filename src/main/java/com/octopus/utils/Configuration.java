@@ -0,0 +1,175 @@
+package com.octopus.utils;
+
+import com.octopus.Constants;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * An immutable snapshot of the settings read on every interaction. The values are parsed once, when the snapshot
+ * is created, in the same way SystemPropertyUtils parses them.
+ */
+public final class Configuration {
+    private final boolean moveCursorToElement;
+    private final int mouseMoveVerticalOffset;
+    private final float screenZoomFactor;
+    private final int screenRecordingMouseFps;
+    private final boolean disableHighlights;
+    private final boolean disableScreenshots;
+    private final boolean disableVideoRecording;
+    private final int threads;
+    private final int workers;
+    private final int multipleElementDiagnosticsInterval;
+
+    /**
+     * Constructor.
+     *
+     * @param values Returns the raw value of a setting, or null if the setting is not defined
+     */
+    public Configuration(final Function<String, String> values) {
+        moveCursorToElement = getBoolean(values, Constants.MOVE_CURSOR_TO_ELEMENT, false);
+        mouseMoveVerticalOffset = getInt(values, Constants.MOUSE_MOVE_VERTICAL_OFFSET, 0);
+        screenZoomFactor = getValue(values, Constants.SCREEN_ZOOM_FACTOR).map(NumberUtils::toFloat).orElse(1.0f);
+        screenRecordingMouseFps = getInt(values, Constants.SCREEN_RECORDING_MOUSE_FPS, Constants.DEFAULT_SCREEN_RECORDING_MOUSE_FPS);
+        disableHighlights = getBoolean(values, Constants.DISABLE_HIGHLIGHTS, false);
+        disableScreenshots = getBoolean(values, Constants.DISABLE_SCREENSHOTS, false);
+        disableVideoRecording = getBoolean(values, Constants.DISABLE_VIDEO_RECORDING, false);
+        threads = getInt(values, Constants.THREADS, 1);
+        workers = getInt(values, Constants.WORKERS, 1);
+        multipleElementDiagnosticsInterval = getInt(values, Constants.MULTIPLE_ELEMENT_DIAGNOSTICS_INTERVAL,
+                Constants.DEFAULT_MULTIPLE_ELEMENT_DIAGNOSTICS_INTERVAL);
+    }
+
+    /**
+     * @return true if the mouse cursor is moved to elements before they are interacted with
+     */
+    public boolean isMoveCursorToElement() {
+        return moveCursorToElement;
+    }
+
+    /**
+     * @return The vertical offset added to the mouse cursor position
+     */
+    public int getMouseMoveVerticalOffset() {
+        return mouseMoveVerticalOffset;
+    }
+
+    /**
+     * @return The screen zoom factor applied to the mouse cursor position
+     */
+    public float getScreenZoomFactor() {
+        return screenZoomFactor;
+    }
+
+    /**
+     * @return The frame rate the mouse cursor is captured at when recording the screen
+     */
+    public int getScreenRecordingMouseFps() {
+        return screenRecordingMouseFps;
+    }
+
+    /**
+     * @return true if highlights are disabled
+     */
+    public boolean isDisableHighlights() {
+        return disableHighlights;
+    }
+
+    /**
+     * @return true if screenshots are disabled
+     */
+    public boolean isDisableScreenshots() {
+        return disableScreenshots;
+    }
+
+    /**
+     * @return true if video recording is disabled
+     */
+    public boolean isDisableVideoRecording() {
+        return disableVideoRecording;
+    }
+
+    /**
+     * @return The number of Cucumber threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return The number of worker processes
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @return How often, in seconds, each locator is checked for matching more than one element
+     */
+    public int getMultipleElementDiagnosticsInterval() {
+        return multipleElementDiagnosticsInterval;
+    }
+
+    /**
+     * @return A line describing each setting, for logging
+     */
+    public List<String> getDescription() {
+        return List.of(
+                "Video recording " + (disableVideoRecording ? "disabled" : "enabled"),
+                "Screenshots " + (disableScreenshots ? "disabled" : "enabled"),
+                "Highlights " + (disableHighlights ? "disabled" : "enabled"),
+                "Mouse movement " + (moveCursorToElement ? "enabled" : "disabled"),
+                "Threads " + threads,
+                "Workers " + workers,
+                "Multiple element diagnostics every " + multipleElementDiagnosticsInterval + "s");
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Configuration)) {
+            return false;
+        }
+        final Configuration that = (Configuration) other;
+        return moveCursorToElement == that.moveCursorToElement
+                && mouseMoveVerticalOffset == that.mouseMoveVerticalOffset
+                && Float.compare(screenZoomFactor, that.screenZoomFactor) == 0
+                && screenRecordingMouseFps == that.screenRecordingMouseFps
+                && disableHighlights == that.disableHighlights
+                && disableScreenshots == that.disableScreenshots
+                && disableVideoRecording == that.disableVideoRecording
+                && threads == that.threads
+                && workers == that.workers
+                && multipleElementDiagnosticsInterval == that.multipleElementDiagnosticsInterval;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moveCursorToElement, mouseMoveVerticalOffset, screenZoomFactor, screenRecordingMouseFps,
+                disableHighlights, disableScreenshots, disableVideoRecording, threads, workers,
+                multipleElementDiagnosticsInterval);
+    }
+
+    private static Optional<String> getValue(final Function<String, String> values, final String name) {
+        return Optional.ofNullable(values.apply(name))
+                .map(String::toLowerCase)
+                .map(String::trim);
+    }
+
+    private static boolean getBoolean(final Function<String, String> values, final String name, final boolean defaultValue) {
+        return getValue(values, name)
+                .filter(StringUtils::isNotBlank)
+                .map(Boolean::parseBoolean)
+                .orElse(defaultValue);
+    }
+
+    private static int getInt(final Function<String, String> values, final String name, final int defaultValue) {
+        return getValue(values, name).map(NumberUtils::toInt).orElse(defaultValue);
+    }
+}
@@ -0,0 +1,35 @@
+package com.octopus.utils;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Defines a service that resolves the settings read on every interaction into a Configuration snapshot, so they
+ * are not looked up and parsed each time they are read.
+ */
+public interface ConfigurationService {
+    /**
+     * @return The current configuration snapshot
+     */
+    Configuration getConfiguration();
+
+    /**
+     * Resolve the configuration again, keeping any headers passed to the last refresh(headers) call. Call this
+     * after changing a system property that the configuration is built from.
+     */
+    void refresh();
+
+    /**
+     * Resolve the configuration again, with the settings passed in the headers of a request.
+     *
+     * @param headers The request headers. Settings are passed in headers with the CucumberOption- prefix.
+     */
+    void refresh(Map<String, String> headers);
+
+    /**
+     * Add a listener that is called whenever a refresh changes the configuration.
+     *
+     * @param listener Called with the previous and the new configuration
+     */
+    void addListener(BiConsumer<Configuration, Configuration> listener);
+}
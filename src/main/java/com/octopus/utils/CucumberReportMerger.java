@@ -0,0 +1,25 @@
+package com.octopus.utils;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Defines a service that merges the Cucumber reports generated by individual runs into a single report.
+ */
+public interface CucumberReportMerger {
+    /**
+     * Merge Cucumber JSON reports. Scenarios from the same feature file are merged into a single feature.
+     *
+     * @param reports The reports to merge, in the order they are to appear. Missing files are ignored.
+     * @param output  The merged report file
+     */
+    void mergeJsonReports(List<File> reports, File output);
+
+    /**
+     * Merge Cucumber JUnit XML reports into a single test suite.
+     *
+     * @param reports The reports to merge, in the order they are to appear. Missing files are ignored.
+     * @param output  The merged report file
+     */
+    void mergeJunitReports(List<File> reports, File output);
+}
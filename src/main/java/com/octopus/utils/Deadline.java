@@ -0,0 +1,53 @@
+package com.octopus.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point in time after which a wait must give up. Deadlines are based on System.nanoTime(), so they are not
+ * affected by changes to the system clock.
+ */
+public final class Deadline {
+    private final long expiresAt;
+
+    private Deadline(final long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * @param millis The number of milliseconds until the deadline
+     * @return A deadline that expires after the supplied time
+     */
+    public static Deadline afterMillis(final long millis) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0)));
+    }
+
+    /**
+     * @param seconds The number of seconds until the deadline
+     * @return A deadline that expires after the supplied time
+     */
+    public static Deadline afterSeconds(final long seconds) {
+        return afterMillis(TimeUnit.SECONDS.toMillis(seconds));
+    }
+
+    /**
+     * @return The number of milliseconds until the deadline, or 0 if it has expired
+     */
+    public long getRemainingMillis() {
+        return Math.max(TimeUnit.NANOSECONDS.toMillis(expiresAt - System.nanoTime()), 0);
+    }
+
+    /**
+     * @return true if the deadline has passed, and false otherwise
+     */
+    public boolean isExpired() {
+        return expiresAt - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @param other Another deadline, which may be null
+     * @return Whichever of this deadline and the other deadline expires first
+     */
+    public Deadline min(final Deadline other) {
+        return other == null || expiresAt - other.expiresAt <= 0 ? this : other;
+    }
+}
@@ -0,0 +1,17 @@
+package com.octopus.utils;
+
+import com.octopus.AutomatedBrowser;
+
+/**
+ * Defines a service that builds the chain of decorators making up a browser profile.
+ */
+public interface DecoratorChainBuilder {
+    /**
+     * Build the decorator chain for a browser profile, leaving out any decorator whose features are disabled.
+     *
+     * @param browser The name of the browser profile
+     * @return The outermost decorator of the chain
+     * @throws IllegalArgumentException if the profile or one of its decorators is unknown
+     */
+    AutomatedBrowser buildChain(String browser);
+}
@@ -0,0 +1,43 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * Defines a service that keeps driver services (chromedriver and geckodriver processes) running between browser
+ * sessions, so a new driver process does not have to be started and stopped for every browser.
+ */
+public interface DriverServiceRegistry {
+    /**
+     * @return true if driver services are to be shared, and false if each browser starts its own driver
+     */
+    boolean isEnabled();
+
+    /**
+     * Start a new Chrome session using a shared chromedriver service.
+     *
+     * @param options The Chrome options
+     * @return The new WebDriver session. Quitting the session leaves the driver service running.
+     */
+    WebDriver createChromeDriver(ChromeOptions options);
+
+    /**
+     * Start a new Firefox session using an idle geckodriver service. Geckodriver only supports one session
+     * at a time, so the service is returned to the registry when the session is quit.
+     *
+     * @param options The Firefox options
+     * @return The new WebDriver session. Quitting the session leaves the driver service running.
+     */
+    WebDriver createFirefoxDriver(FirefoxOptions options);
+
+    /**
+     * Stop all the driver services and log the statistics.
+     */
+    void shutdown();
+
+    /**
+     * @return A summary of the number of services started, their startup latency, and the sessions they served
+     */
+    String getStatistics();
+}
@@ -0,0 +1,19 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Defines a service that waits for a simple locator to stop matching any element.
+ */
+public interface ElementAbsenceWait {
+    /**
+     * Wait for no element to match the locator.
+     *
+     * @param webDriver The browser to wait in
+     * @param locator   The simple locator string
+     * @param waitTime  The maximum time to wait, in seconds
+     * @return The number of milliseconds it took for the element to disappear
+     * @throws com.octopus.exceptions.WebElementException if an element still matched the locator after the wait time
+     */
+    long awaitAbsence(WebDriver webDriver, String locator, int waitTime);
+}
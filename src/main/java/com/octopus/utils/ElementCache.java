@@ -0,0 +1,51 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Optional;
+
+/**
+ * Defines a service that remembers the elements resolved during a step, so the decorators that look up the
+ * same locator in one step don't each wait for the element.
+ */
+public interface ElementCache {
+    /**
+     * @return true if the element cache is enabled, and false otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Get a previously resolved element. Cached elements are checked for staleness before they are returned. If the
+     * element was resolved with a different expected condition, the condition is checked once with the By that
+     * resolved the element.
+     *
+     * @param webDriver                 The browser the locator is being used in
+     * @param locator                   The simple locator string
+     * @param expectedConditionCallback The expected condition the element must meet
+     * @return The cached element, if it is still valid
+     */
+    Optional<WebElement> getElement(WebDriver webDriver, String locator, ExpectedConditionCallback expectedConditionCallback);
+
+    /**
+     * Remember a resolved element.
+     *
+     * @param webDriver                 The browser the locator was used in
+     * @param locator                   The simple locator string
+     * @param expectedConditionCallback The expected condition the element met
+     * @param by                        The By that resolved the element
+     * @param element                   The resolved element
+     */
+    void putElement(WebDriver webDriver, String locator, ExpectedConditionCallback expectedConditionCallback, By by, WebElement element);
+
+    /**
+     * Forget the elements cached on the current thread.
+     */
+    void clear();
+
+    /**
+     * @return A summary of the cache hits and misses
+     */
+    String getStatistics();
+}
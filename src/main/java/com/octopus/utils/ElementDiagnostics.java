@@ -0,0 +1,25 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Defines a service that reports locators matching more than one element, which usually indicates the locator
+ * needs to be more specific.
+ */
+public interface ElementDiagnostics {
+    /**
+     * Report the elements matched by a locator if there is more than one. Checks are rate limited per locator,
+     * and the report is logged in the background.
+     *
+     * @param webDriver The browser the locator was used in
+     * @param by        The By that resolved the locator
+     * @param locator   The simple locator string
+     */
+    void checkMultipleElements(WebDriver webDriver, By by, String locator);
+
+    /**
+     * Wait for any queued reports to be logged.
+     */
+    void flush();
+}
@@ -0,0 +1,109 @@
+package com.octopus.utils;
+
+/**
+ * The position and visibility of an element, as reported by the browser. The element rectangle is relative to
+ * the viewport, in CSS pixels.
+ */
+public class ElementGeometry {
+    private final double left;
+    private final double top;
+    private final double width;
+    private final double height;
+    private final double viewportWidth;
+    private final double viewportHeight;
+    private final double scrollX;
+    private final double scrollY;
+    private final double devicePixelRatio;
+    private final boolean visible;
+
+    /**
+     * Constructor.
+     *
+     * @param left             The left edge of the element
+     * @param top              The top edge of the element
+     * @param width            The width of the element
+     * @param height           The height of the element
+     * @param viewportWidth    The width of the viewport
+     * @param viewportHeight   The height of the viewport
+     * @param scrollX          The horizontal scroll position of the window
+     * @param scrollY          The vertical scroll position of the window
+     * @param devicePixelRatio The ratio of device pixels to CSS pixels
+     * @param visible          true if the element is rendered and at least partly inside the viewport
+     */
+    public ElementGeometry(
+            final double left,
+            final double top,
+            final double width,
+            final double height,
+            final double viewportWidth,
+            final double viewportHeight,
+            final double scrollX,
+            final double scrollY,
+            final double devicePixelRatio,
+            final boolean visible) {
+        this.left = left;
+        this.top = top;
+        this.width = width;
+        this.height = height;
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.scrollX = scrollX;
+        this.scrollY = scrollY;
+        this.devicePixelRatio = devicePixelRatio;
+        this.visible = visible;
+    }
+
+    public double getLeft() {
+        return left;
+    }
+
+    public double getTop() {
+        return top;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public double getViewportWidth() {
+        return viewportWidth;
+    }
+
+    public double getViewportHeight() {
+        return viewportHeight;
+    }
+
+    public double getScrollX() {
+        return scrollX;
+    }
+
+    public double getScrollY() {
+        return scrollY;
+    }
+
+    public double getDevicePixelRatio() {
+        return devicePixelRatio;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * @return The horizontal center of the element, relative to the viewport
+     */
+    public double getCenterX() {
+        return left + width / 2;
+    }
+
+    /**
+     * @return The vertical center of the element, relative to the viewport
+     */
+    public double getCenterY() {
+        return top + height / 2;
+    }
+}
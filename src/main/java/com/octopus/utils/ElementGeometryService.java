@@ -0,0 +1,19 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Defines a service that reads the geometry of an element from the browser.
+ */
+public interface ElementGeometryService {
+    /**
+     * Read the element rectangle, viewport size, scroll position, device pixel ratio and visibility of an
+     * element in a single request.
+     *
+     * @param javascriptExecutor The selenium javascript executor
+     * @param element            The element to measure
+     * @return The geometry of the element
+     */
+    ElementGeometry getGeometry(JavascriptExecutor javascriptExecutor, WebElement element);
+}
@@ -0,0 +1,56 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+
+/**
+ * Defines a service that waits for elements to change state inside the browser, reacting to DOM changes
+ * as they happen rather than polling WebDriver.
+ */
+public interface ElementWaitEngine {
+    /**
+     * The element states that can be waited for.
+     */
+    enum ElementState {
+        /**
+         * An element matching the locator exists.
+         */
+        PRESENT,
+        /**
+         * An element matching the locator is displayed and enabled.
+         */
+        CLICKABLE,
+        /**
+         * No element matches the locator.
+         */
+        ABSENT
+    }
+
+    /**
+     * @return true if event driven waits are enabled, and false otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Wait for an element to reach a state.
+     *
+     * @param webDriver  The browser to wait in
+     * @param candidates The strategies and locators used to match the element
+     * @param state      The state to wait for
+     * @param timeout    The maximum time to wait, in milliseconds
+     * @return true if the state was reached, and false if the wait timed out
+     * @throws org.openqa.selenium.WebDriverException if the browser does not support asynchronous scripts
+     */
+    boolean awaitState(WebDriver webDriver, List<LocatorCandidate> candidates, ElementState state, long timeout);
+
+    /**
+     * Wait for the next change to the DOM.
+     *
+     * @param webDriver The browser to wait in
+     * @param timeout   The maximum time to wait, in milliseconds
+     * @return true if the DOM changed, and false if the wait timed out
+     * @throws org.openqa.selenium.WebDriverException if the browser does not support asynchronous scripts
+     */
+    boolean awaitMutation(WebDriver webDriver, long timeout);
+}
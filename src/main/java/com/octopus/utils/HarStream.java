@@ -0,0 +1,36 @@
+package com.octopus.utils;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Defines a HAR capture that moves completed entries out of the proxy's in-memory HAR and onto disk, so long
+ * scenarios don't hold every request and response body in the heap.
+ */
+public interface HarStream extends AutoCloseable {
+    /**
+     * Move the completed entries from the HAR to disk. This is also done in the background while the HAR is captured.
+     */
+    void drain();
+
+    /**
+     * Save the HAR file, including the entries moved to disk. The file is gzip compressed if its name ends with .gz.
+     *
+     * @param file The file to save
+     */
+    void save(File file);
+
+    /**
+     * @return The URL and response code of the HTTP errors in the HAR. Only a fixed number of the errors in the
+     * entries moved to disk are kept.
+     */
+    List<Pair<String, Integer>> getErrors();
+
+    /**
+     * Stop moving entries to disk, and delete the entries that were moved.
+     */
+    @Override
+    void close();
+}
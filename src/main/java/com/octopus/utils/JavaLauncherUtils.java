@@ -1,6 +1,18 @@
 package com.octopus.utils;
 
+import java.util.List;
+
 public interface JavaLauncherUtils {
     int launchAppExternally(String args);
     int launchAppInternally(String[] args);
+
+    /**
+     * Launch a new instance of this app with the same JVM arguments, without waiting for it to exit.
+     * The output of the new process is sent to the output of this process.
+     *
+     * @param additionalVmArgs Additional JVM arguments, like system properties, to pass to the new process
+     * @param args             The program arguments to pass to the new process
+     * @return The new process
+     */
+    Process launchAppInBackground(List<String> additionalVmArgs, List<String> args);
 }
@@ -0,0 +1,46 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.By;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A strategy and the locator it is tried with. A prefixed locator like css=#message is tried as a CSS selector
+ * with the prefix removed, and then with every strategy as it was written.
+ */
+public class LocatorCandidate {
+    private final LocatorStrategy strategy;
+    private final String locator;
+
+    /**
+     * Constructor.
+     *
+     * @param strategy The strategy used to resolve the locator
+     * @param locator  The locator passed to the strategy
+     */
+    public LocatorCandidate(final LocatorStrategy strategy, final String locator) {
+        this.strategy = checkNotNull(strategy);
+        this.locator = checkNotNull(locator);
+    }
+
+    /**
+     * @return The strategy used to resolve the locator
+     */
+    public LocatorStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return The locator passed to the strategy
+     */
+    public String getLocator() {
+        return locator;
+    }
+
+    /**
+     * @return The By instance that resolves the locator with the strategy
+     */
+    public By getBy() {
+        return strategy.getBy(locator);
+    }
+}
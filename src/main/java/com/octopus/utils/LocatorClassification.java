@@ -0,0 +1,35 @@
+package com.octopus.utils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The result of classifying a simple locator string: the strategies that could resolve it, and the locator each
+ * strategy is tried with, in the order they should be tried.
+ */
+public class LocatorClassification {
+    private final List<LocatorCandidate> candidates;
+
+    /**
+     * Constructor.
+     *
+     * @param candidates The candidate strategies and locators, in the order they should be tried
+     */
+    public LocatorClassification(final List<LocatorCandidate> candidates) {
+        this.candidates = List.copyOf(candidates);
+    }
+
+    /**
+     * @return The candidate strategies and locators, in the order they should be tried
+     */
+    public List<LocatorCandidate> getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * @return The candidate strategies, in the order they should be tried
+     */
+    public List<LocatorStrategy> getStrategies() {
+        return candidates.stream().map(LocatorCandidate::getStrategy).collect(Collectors.toList());
+    }
+}
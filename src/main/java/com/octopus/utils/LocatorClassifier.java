@@ -0,0 +1,29 @@
+package com.octopus.utils;
+
+/**
+ * Defines a service that works out the order to try the strategies that could resolve a simple locator string by
+ * looking at its syntax, so the "simple by" lookup tries the likely strategies first and doesn't wait on strategies
+ * that can never match.
+ */
+public interface LocatorClassifier {
+    /**
+     * Classify a locator. Locators can be prefixed with id=, xpath=, css=, class=, link= or name= to
+     * try that strategy first, with the prefix removed.
+     *
+     * @param locator The simple locator string
+     * @return The candidate strategies, and the locator each is tried with
+     */
+    LocatorClassification classify(String locator);
+
+    /**
+     * Record that a strategy was used to attempt to resolve a locator.
+     *
+     * @param strategy The strategy that was attempted
+     */
+    void recordAttempt(LocatorStrategy strategy);
+
+    /**
+     * @return A summary of the attempts made with each strategy, and the attempts saved by pruning
+     */
+    String getStatistics();
+}
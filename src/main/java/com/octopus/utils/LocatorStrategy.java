@@ -0,0 +1,35 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.function.Function;
+
+/**
+ * The strategies used to resolve a simple locator string into a By instance, in the order they are tried
+ * by default.
+ */
+public enum LocatorStrategy {
+    ID(By::id),
+    XPATH(By::xpath),
+    CSS_SELECTOR(By::cssSelector),
+    CLASS_NAME(By::className),
+    LINK_TEXT(By::linkText),
+    NAME(By::name);
+
+    /**
+     * Builds the By instance for a locator.
+     */
+    private final Function<String, By> byBuilder;
+
+    LocatorStrategy(final Function<String, By> byBuilder) {
+        this.byBuilder = byBuilder;
+    }
+
+    /**
+     * @param locator The simple locator string
+     * @return The By instance that resolves the locator with this strategy
+     */
+    public By getBy(final String locator) {
+        return byBuilder.apply(locator);
+    }
+}
@@ -0,0 +1,39 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Optional;
+
+/**
+ * Defines a service that remembers which LocatorStrategy last resolved a locator, so the strategy
+ * can be tried first the next time the locator is used.
+ */
+public interface LocatorStrategyCache {
+    /**
+     * @param webDriver The browser the locator is being used in
+     * @param locator   The simple locator string
+     * @return The strategy that last resolved the locator, if there is one
+     */
+    Optional<LocatorStrategy> getStrategy(WebDriver webDriver, String locator);
+
+    /**
+     * Record the strategy that resolved a locator, and whether it was the strategy returned by getStrategy().
+     *
+     * @param webDriver The browser the locator was used in
+     * @param locator   The simple locator string
+     * @param strategy  The strategy that resolved the locator
+     * @param hit       true if the remembered strategy resolved the locator, and false otherwise
+     */
+    void recordStrategy(WebDriver webDriver, String locator, LocatorStrategy strategy, boolean hit);
+
+    /**
+     * Save the remembered strategies to the file defined by the locatorStrategyCacheFile system property,
+     * if it is set.
+     */
+    void save();
+
+    /**
+     * @return A summary of the cache hits and misses
+     */
+    String getStatistics();
+}
@@ -8,6 +8,8 @@ import org.openqa.selenium.WebDriver;
  */
 public interface MouseMovementUtils {
 	/**
+	 * Move the mouse between two positions. The mouse is moved on a background thread, so this method returns
+	 * before the movement is complete. Call awaitGlide() to wait for the cursor to arrive.
 	 *
 	 * @param x1 Start x
 	 * @param y1 Start y
@@ -19,7 +21,8 @@ public interface MouseMovementUtils {
 	void mouseGlide(int x1, int y1, int x2, int y2, int time, int steps);
 
 	/**
-	 * Move the mouse from the current position to the new position.
+	 * Move the mouse from the current position to the new position. The mouse is moved on a background thread,
+	 * so this method returns before the movement is complete.
 	 *
 	 * @param x2    End x
 	 * @param y2    End y
@@ -29,7 +32,8 @@ public interface MouseMovementUtils {
 	void mouseGlide(int x2, int y2, int time, int steps);
 
 	/**
-	 * Move the mouse from the current position to the new position.
+	 * Move the mouse from the current position to the new position. The element is resolved on the calling
+	 * thread, and the mouse is moved on a background thread once the element position is known.
 	 * @param driver The WebDriver instance
 	 * @param javascriptExecutor The selenium javascript executor
 	 * @param element the callback to get the element
@@ -60,4 +64,10 @@ public interface MouseMovementUtils {
 							int steps) {
 		mouseGlide(driver, javascriptExecutor, element, time, steps, false);
 	}
+
+	/**
+	 * Wait for any mouse movement started by the current thread to complete. Interactions call this just before
+	 * they click or type, so the element can be resolved while the cursor is still moving.
+	 */
+	void awaitGlide();
 }
@@ -0,0 +1,26 @@
+package com.octopus.utils;
+
+/**
+ * Defines how often a wait checks its condition, and tracks how many checks waits need.
+ */
+public interface PollingPolicy {
+    /**
+     * @param poll The number of polls made so far, starting at 1
+     * @return The time to sleep before the next poll, in milliseconds
+     */
+    long getIntervalMillis(int poll);
+
+    /**
+     * Record the outcome of a wait.
+     *
+     * @param polls     The number of times the condition was checked
+     * @param elapsed   The time the wait took, in milliseconds
+     * @param satisfied true if the condition was met, and false if the wait timed out
+     */
+    void recordWait(int polls, long elapsed, boolean satisfied);
+
+    /**
+     * @return A summary of the polls made and time taken by the recorded waits
+     */
+    String getStatistics();
+}
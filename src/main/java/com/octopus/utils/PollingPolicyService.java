@@ -0,0 +1,19 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Defines a service that provides the polling policy for each browser.
+ */
+public interface PollingPolicyService {
+    /**
+     * @param webDriver The browser that will be polled
+     * @return The polling policy for the browser
+     */
+    PollingPolicy getPolicy(WebDriver webDriver);
+
+    /**
+     * @return A summary of the waits recorded by each policy
+     */
+    String getStatistics();
+}
@@ -0,0 +1,41 @@
+package com.octopus.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.util.function.Consumer;
+
+/**
+ * Defines a service that builds a warmed browser profile once, and then clones it for each browser session,
+ * so browsers don't have to build a new profile every time they start.
+ */
+public interface ProfileTemplateService {
+    /**
+     * @return true if profile templates are enabled, and false otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * @return The directory the templates are kept in, which must not be deleted while the templates are in use
+     */
+    File getTemplateDirectory();
+
+    /**
+     * Clone a profile template into a new temporary directory, building the template first if it does
+     * not already exist.
+     *
+     * @param name            The name of the template, which identifies the browser and options it was built with
+     * @param templateBuilder A function that populates the supplied template directory, usually by running the
+     *                        browser once with that directory as its profile
+     * @return A new temporary directory holding a copy of the template
+     */
+    File cloneTemplate(String name, Consumer<File> templateBuilder);
+
+    /**
+     * Load the configured warm up URLs in a browser that is building a profile template, pre-seeding
+     * the profile's cache.
+     *
+     * @param webDriver The browser building the template
+     */
+    void warmProfile(WebDriver webDriver);
+}
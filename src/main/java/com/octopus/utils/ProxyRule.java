@@ -0,0 +1,65 @@
+package com.octopus.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A rule applied by the proxy to the requests whose URL matches a regular expression.
+ *
+ * @param <T> The action taken when the rule matches
+ */
+public class ProxyRule<T> {
+    private final String url;
+    private final T action;
+    private final long sequence;
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param url      The regular expression matched against the whole request URL
+     * @param action   The action taken when the rule matches
+     * @param sequence The order the rule was added in
+     */
+    public ProxyRule(final String url, final T action, final long sequence) {
+        this.url = checkNotNull(url);
+        this.action = action;
+        this.sequence = sequence;
+    }
+
+    /**
+     * @return The regular expression matched against the whole request URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return The action taken when the rule matches
+     */
+    public T getAction() {
+        return action;
+    }
+
+    /**
+     * @return The order the rule was added in
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return The number of requests the rule was applied to
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Record that the rule was applied to a request.
+     */
+    public void recordHit() {
+        hits.incrementAndGet();
+    }
+}
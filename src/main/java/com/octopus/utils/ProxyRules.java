@@ -0,0 +1,59 @@
+package com.octopus.utils;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Defines a table of proxy rules that is read by the proxy filters for every request, and changed by the steps
+ * that block requests or alter responses.
+ *
+ * @param <T> The action taken when a rule matches
+ */
+public interface ProxyRules<T> {
+    /**
+     * Add a rule.
+     *
+     * @param url    The regular expression matched against the whole request URL
+     * @param action The action taken when the rule matches
+     */
+    void addRule(String url, T action);
+
+    /**
+     * Remove the rules added with a URL.
+     *
+     * @param url The regular expression the rules were added with
+     * @return The number of rules that were removed
+     */
+    int removeRules(String url);
+
+    /**
+     * Remove all the rules.
+     */
+    void clear();
+
+    /**
+     * @return The rules in the order they were added
+     */
+    List<ProxyRule<T>> getRules();
+
+    /**
+     * Find the first rule added that matches a URL, and record a hit against it.
+     *
+     * @param url The request URL
+     * @return The oldest matching rule, if any
+     */
+    Optional<ProxyRule<T>> getFirstMatch(String url);
+
+    /**
+     * Find the last rule added that matches a URL, and record a hit against it.
+     *
+     * @param url The request URL
+     * @return The newest matching rule, if any
+     */
+    Optional<ProxyRule<T>> getLastMatch(String url);
+
+    /**
+     * @return A summary of the time spent matching URLs, and the hits against each rule
+     */
+    String getStatistics();
+}
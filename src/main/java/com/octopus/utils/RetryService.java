@@ -2,6 +2,8 @@ package com.octopus.utils;
 
 import org.springframework.retry.support.RetryTemplate;
 
+import java.util.Optional;
+
 public interface RetryService {
     /**
      * @param retries Number of time to retry.
@@ -24,4 +26,24 @@ public interface RetryService {
     default RetryTemplate getTemplate(int retries) {
         return getTemplate(retries, 100);
     }
+
+    /**
+     * @param retries  Number of time to retry.
+     * @param backoff  Time to wait before a retry.
+     * @param deadline The deadline after which no more retries are attempted.
+     * @return A RetryTemplate with the supplied values.
+     */
+    RetryTemplate getTemplate(int retries, int backoff, Deadline deadline);
+
+    /**
+     * @param retries  Number of time to retry.
+     * @param backoff  Time to wait before a retry.
+     * @param deadline The optional deadline after which no more retries are attempted.
+     * @return A RetryTemplate with the supplied values.
+     */
+    default RetryTemplate getTemplate(int retries, int backoff, Optional<Deadline> deadline) {
+        return deadline
+                .map(d -> getTemplate(retries, backoff, d))
+                .orElseGet(() -> getTemplate(retries, backoff));
+    }
 }
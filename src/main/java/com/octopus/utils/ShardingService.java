@@ -0,0 +1,30 @@
+package com.octopus.utils;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Defines a service that splits the feature files passed to the app into scenario level work units, and runs those
+ * units across a number of local worker JVMs. Workers pull units from the coordinator over a local socket, so a slow
+ * feature only holds up the worker running it.
+ */
+public interface ShardingService {
+    /**
+     * Split the features into work units, launch the workers, hand out units until there are none left, and then
+     * merge the Cucumber JSON and JUnit reports generated by the workers.
+     *
+     * @param args    The arguments passed to the app
+     * @param workers The number of worker JVMs to launch
+     * @return 0 if every unit passed, and 1 otherwise
+     */
+    int runCoordinator(String[] args, int workers);
+
+    /**
+     * Connect to the coordinator and run the units it hands out until there are none left.
+     *
+     * @param args           The arguments passed to the app
+     * @param port           The port the coordinator is listening on
+     * @param cucumberRunner The function used to run Cucumber with a set of arguments
+     * @return 0 if every unit passed, and 1 otherwise
+     */
+    int runWorker(String[] args, int port, ToIntFunction<String[]> cucumberRunner);
+}
@@ -0,0 +1,65 @@
+package com.octopus.utils;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Defines a service that tracks the deadline of the step running on the current thread. Lookups, retries and
+ * highlights take their wait time from the step deadline, so a step spends one shared budget no matter how many
+ * decorators wait on the same element.
+ */
+public interface StepScope {
+    /**
+     * Start a step on the current thread.
+     *
+     * @param deadline The deadline of the step
+     */
+    void startStep(Deadline deadline);
+
+    /**
+     * Start a step on the current thread without a fixed deadline. The first wait the step makes sets the
+     * deadline, so the highlight, mouse movement and action of a step share the step's wait time.
+     */
+    void startStep();
+
+    /**
+     * End the step on the current thread.
+     */
+    void endStep();
+
+    /**
+     * @return The deadline in effect on the current thread, if there is one
+     */
+    Optional<Deadline> getDeadline();
+
+    /**
+     * @param waitMillis The time a caller would like to wait, in milliseconds
+     * @return A deadline after the supplied time, or the deadline in effect on the current thread if that
+     * expires first. If a step without a deadline is running, the returned deadline becomes the step's deadline.
+     */
+    Deadline getDeadline(long waitMillis);
+
+    /**
+     * Run an action with a deadline in effect on the current thread. The deadline can only shorten any deadline
+     * already in effect.
+     *
+     * @param deadline The deadline for the action
+     * @param action   The action to run
+     * @param <T>      The type returned by the action
+     * @return The value returned by the action
+     */
+    <T> T withDeadline(Deadline deadline, Supplier<T> action);
+
+    /**
+     * Run an action with a deadline in effect on the current thread.
+     *
+     * @param deadline The deadline for the action
+     * @param action   The action to run
+     */
+    default void runWithDeadline(final Deadline deadline, final Runnable action) {
+        withDeadline(deadline, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
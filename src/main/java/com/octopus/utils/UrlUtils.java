@@ -0,0 +1,13 @@
+package com.octopus.utils;
+
+import java.util.Optional;
+
+public interface UrlUtils {
+    /**
+     * Get the origin of a URL, which is the scope browsers keep cookies and storage in.
+     *
+     * @param url The URL.
+     * @return The scheme, host and port of the URL, or empty if the URL has no host, like about:blank or data: URLs.
+     */
+    Optional<String> getOrigin(String url);
+}
@@ -1,8 +1,10 @@
 package com.octopus.utils;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 public interface ZipUtils {
     void unzipFile(final String fileZip, final String outputDirectory) throws IOException;
+    void unzipStream(final InputStream zipStream, final String outputDirectory) throws IOException;
     void zipDirectory(final String fileZip, final String inputDirectory) throws IOException;
 }
\ No newline at end of file
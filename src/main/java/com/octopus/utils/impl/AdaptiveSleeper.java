@@ -0,0 +1,43 @@
+package com.octopus.utils.impl;
+
+import com.octopus.utils.Deadline;
+import com.octopus.utils.PollingPolicy;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A Sleeper that ignores the fixed interval requested by the wait, and sleeps for the interval defined by a
+ * polling policy instead. Sleepers track the polls made by a single wait, so each wait needs its own instance.
+ */
+public class AdaptiveSleeper implements Sleeper {
+    private final PollingPolicy pollingPolicy;
+    private final Deadline deadline;
+    private int sleeps = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param pollingPolicy The policy defining the interval between polls
+     * @param deadline      The deadline of the wait, which the sleeper will not sleep past
+     */
+    public AdaptiveSleeper(final PollingPolicy pollingPolicy, final Deadline deadline) {
+        this.pollingPolicy = checkNotNull(pollingPolicy);
+        this.deadline = checkNotNull(deadline);
+    }
+
+    @Override
+    public void sleep(final Duration duration) throws InterruptedException {
+        ++sleeps;
+        Thread.sleep(Math.min(pollingPolicy.getIntervalMillis(sleeps), deadline.getRemainingMillis()));
+    }
+
+    /**
+     * @return The number of times the sleeper has slept
+     */
+    public int getSleeps() {
+        return sleeps;
+    }
+}
@@ -0,0 +1,201 @@
+package com.octopus.utils.impl;
+
+import com.octopus.utils.AliasStore;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringSubstitutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An alias layer that is copied on write. Readers look up aliases in the current immutable map of each layer, so
+ * reading an alias never copies or locks anything, while writes copy this layer's map and bump the version.
+ * <p>
+ * Strings are parsed once into a template of literal text and alias references, and the templates are cached.
+ * Templates using the less common StringSubstitutor features (escaped references, references nested in reference
+ * names, default values, or alias values that hold references themselves) are passed to a StringSubstitutor that
+ * looks up the layers directly.
+ */
+public class AliasStoreImpl implements AliasStore {
+    private static final String PREFIX = "#{";
+    private static final String SUFFIX = "}";
+    /**
+     * The templates are shared by every layer, as parsing a string does not depend on the alias values.
+     */
+    private static final Map<String, AliasTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    /**
+     * Stop caching templates once there are this many, so generated strings can not grow the cache forever.
+     */
+    private static final int MAX_TEMPLATES = 10000;
+
+    /**
+     * The parent layer, or null if this is the bottom layer.
+     */
+    private final AliasStore parent;
+    private volatile Map<String, String> aliases = Collections.emptyMap();
+    private volatile long version = 0;
+    private volatile long snapshotVersion = -1;
+    private volatile Map<String, String> snapshot = Collections.emptyMap();
+
+    /**
+     * Constructor.
+     *
+     * @param parent The parent layer, or null if this is the bottom layer
+     */
+    public AliasStoreImpl(final AliasStore parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public boolean containsAlias(final String name) {
+        return aliases.containsKey(name) || (parent != null && parent.containsAlias(name));
+    }
+
+    @Override
+    public String getAlias(final String name) {
+        final Map<String, String> current = aliases;
+        if (current.containsKey(name)) {
+            return current.get(name);
+        }
+        return parent == null ? null : parent.getAlias(name);
+    }
+
+    @Override
+    public void putAlias(final String name, final String value) {
+        putAliases(Collections.singletonMap(name, value));
+    }
+
+    @Override
+    public synchronized void putAliases(final Map<String, String> newAliases) {
+        if (newAliases == null || newAliases.isEmpty()) {
+            return;
+        }
+
+        // HashMap is used rather than Map.copyOf() because alias values can be null
+        final Map<String, String> copy = new HashMap<>(aliases);
+        copy.putAll(newAliases);
+        aliases = Collections.unmodifiableMap(copy);
+        ++version;
+    }
+
+    @Override
+    public long getVersion() {
+        return version + (parent == null ? 0 : parent.getVersion());
+    }
+
+    @Override
+    public Map<String, String> getSnapshot() {
+        final long currentVersion = getVersion();
+        if (snapshotVersion != currentVersion) {
+            final Map<String, String> combined = new HashMap<>(parent == null ? Map.of() : parent.getSnapshot());
+            combined.putAll(aliases);
+            snapshot = Collections.unmodifiableMap(combined);
+            snapshotVersion = currentVersion;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public String getSubstitutedString(final String string) {
+        if (StringUtils.isEmpty(string)) {
+            return string;
+        }
+
+        final String template = containsAlias(string) ? getAlias(string) : string;
+        if (template == null || !template.contains(PREFIX)) {
+            return template;
+        }
+
+        return getTemplate(template).substitute(this);
+    }
+
+    private static AliasTemplate getTemplate(final String template) {
+        final AliasTemplate cached = TEMPLATES.get(template);
+        if (cached != null) {
+            return cached;
+        }
+
+        final AliasTemplate parsed = AliasTemplate.parse(template);
+        if (TEMPLATES.size() < MAX_TEMPLATES) {
+            TEMPLATES.putIfAbsent(template, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * A string split into literal text and the names of the aliases it references.
+     */
+    private static final class AliasTemplate {
+        private final String template;
+        /**
+         * The literal text, which has one more entry than names. Null if the template must use StringSubstitutor.
+         */
+        private final List<String> literals;
+        private final List<String> names;
+
+        private AliasTemplate(final String template, final List<String> literals, final List<String> names) {
+            this.template = template;
+            this.literals = literals;
+            this.names = names;
+        }
+
+        static AliasTemplate parse(final String template) {
+            if (template.contains("$" + PREFIX)) {
+                return new AliasTemplate(template, null, null);
+            }
+
+            final List<String> literals = new ArrayList<>();
+            final List<String> names = new ArrayList<>();
+            int position = 0;
+            int start;
+            while ((start = template.indexOf(PREFIX, position)) != -1) {
+                final int end = template.indexOf(SUFFIX, start + PREFIX.length());
+                if (end == -1) {
+                    return new AliasTemplate(template, null, null);
+                }
+
+                final String name = template.substring(start + PREFIX.length(), end);
+                if (name.isEmpty() || name.contains(PREFIX) || name.contains(":-")) {
+                    return new AliasTemplate(template, null, null);
+                }
+
+                literals.add(template.substring(position, start));
+                names.add(name);
+                position = end + SUFFIX.length();
+            }
+            literals.add(template.substring(position));
+            return new AliasTemplate(template, List.copyOf(literals), List.copyOf(names));
+        }
+
+        String substitute(final AliasStore aliasStore) {
+            if (literals != null) {
+                final StringBuilder result = new StringBuilder(template.length());
+                for (int i = 0; i < names.size(); ++i) {
+                    result.append(literals.get(i));
+                    final String value = aliasStore.getAlias(names.get(i));
+                    if (value == null) {
+                        // Unknown aliases are left in place
+                        result.append(PREFIX).append(names.get(i)).append(SUFFIX);
+                    } else if (value.contains(PREFIX)) {
+                        return substituteRecursively(aliasStore);
+                    } else {
+                        result.append(value);
+                    }
+                }
+                return result.append(literals.get(names.size())).toString();
+            }
+
+            return substituteRecursively(aliasStore);
+        }
+
+        private String substituteRecursively(final AliasStore aliasStore) {
+            return new StringSubstitutor(aliasStore::getAlias, PREFIX, SUFFIX, StringSubstitutor.DEFAULT_ESCAPE)
+                    .setEnableSubstitutionInVariables(true)
+                    .replace(template);
+        }
+    }
+}
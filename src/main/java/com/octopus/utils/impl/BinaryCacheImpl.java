@@ -0,0 +1,120 @@
+package com.octopus.utils.impl;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.octopus.utils.BinaryCache;
+import com.octopus.utils.ZipUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullOutputStream;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A binary cache that stores each archive in a directory named after the hash of its URL and expected checksum.
+ * Archives are streamed straight from the URL into the unzip, hashing the bytes as they go past, and extracted
+ * into a temporary directory that is renamed into place once the checksum is verified. A marker file holding
+ * the checksum is written last, so a half extracted archive is never treated as a cache hit.
+ */
+public class BinaryCacheImpl implements BinaryCache {
+    private static final Logger LOGGER = Logger.getLogger(BinaryCacheImpl.class.toString());
+    private static final ZipUtils ZIP_UTILS = new ZipUtilsImpl();
+    private static final String MARKER_FILE = ".sha256";
+
+    /**
+     * The directory holding the cached archives.
+     */
+    private final File cacheDirectory;
+
+    /**
+     * Constructor.
+     *
+     * @param cacheDirectory The directory holding the cached archives
+     */
+    public BinaryCacheImpl(final File cacheDirectory) {
+        this.cacheDirectory = checkNotNull(cacheDirectory);
+    }
+
+    @Override
+    public File getExtractedArchive(final String url, final String expectedSha256) throws IOException {
+        checkNotNull(url);
+
+        final String key = Hashing.sha256()
+                .hashString(url + "#" + Objects.toString(expectedSha256, ""), StandardCharsets.UTF_8)
+                .toString();
+        final File extractedDir = new File(cacheDirectory, key);
+        final File marker = new File(extractedDir, MARKER_FILE);
+
+        if (marker.exists()) {
+            final String cachedSha256 = FileUtils.readFileToString(marker, StandardCharsets.UTF_8).trim();
+            if (expectedSha256 == null || StringUtils.equalsIgnoreCase(cachedSha256, expectedSha256)) {
+                LOGGER.info("Using the cached copy of " + url);
+                return extractedDir;
+            }
+        }
+
+        final long start = System.currentTimeMillis();
+        Files.createDirectories(cacheDirectory.toPath());
+        final File tempDir = Files.createTempDirectory(cacheDirectory.toPath(), key + ".tmp").toFile();
+        try {
+            final String sha256 = downloadAndExtract(url, tempDir);
+            if (expectedSha256 != null && !StringUtils.equalsIgnoreCase(sha256, expectedSha256)) {
+                throw new IOException("The archive " + url + " had the checksum " + sha256
+                        + " but " + expectedSha256 + " was expected");
+            }
+            FileUtils.writeStringToFile(new File(tempDir, MARKER_FILE), sha256, StandardCharsets.UTF_8);
+
+            FileUtils.deleteQuietly(extractedDir);
+            moveIntoPlace(tempDir, extractedDir);
+
+            LOGGER.info("Downloaded and extracted " + url + " in " + (System.currentTimeMillis() - start) + "ms");
+            return extractedDir;
+        } finally {
+            FileUtils.deleteQuietly(tempDir);
+        }
+    }
+
+    /**
+     * Stream the archive into the unzip, returning the SHA-256 checksum of the archive.
+     */
+    private String downloadAndExtract(final String url, final File outputDirectory) throws IOException {
+        try (InputStream urlStream = new URL(url).openStream();
+             DigestInputStream digestStream = new DigestInputStream(urlStream, MessageDigest.getInstance("SHA-256"))) {
+            ZIP_UTILS.unzipStream(digestStream, outputDirectory.getAbsolutePath());
+            // The unzip stops reading at the central directory, so read the rest to hash the whole archive
+            IOUtils.copy(digestStream, NullOutputStream.NULL_OUTPUT_STREAM);
+            return BaseEncoding.base16().encode(digestStream.getMessageDigest().digest()).toLowerCase(Locale.ROOT);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private void moveIntoPlace(final File source, final File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException ex) {
+            Files.move(source.toPath(), target.toPath());
+        } catch (final FileAlreadyExistsException | DirectoryNotEmptyException ex) {
+            // Another thread extracted the same archive first, so use that copy
+            LOGGER.info("The archive in " + target + " was extracted concurrently");
+        }
+    }
+}
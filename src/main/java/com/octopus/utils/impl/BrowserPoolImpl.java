@@ -0,0 +1,334 @@
+package com.octopus.utils.impl;
+
+import com.octopus.AutomatedBrowser;
+import com.octopus.Constants;
+import com.octopus.exceptions.BrowserException;
+import com.octopus.utils.BrowserPool;
+import com.octopus.utils.SystemPropertyUtils;
+import io.vavr.control.Try;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A browser pool that keeps up to browserPoolSize initialised browsers for each browser profile. The first lease
+ * of a profile creates a browser on the calling thread and warms up the rest of the pool in the background.
+ */
+public class BrowserPoolImpl implements BrowserPool {
+    /**
+     * The shared Logger instance.
+     */
+    private static final Logger LOGGER = Logger.getLogger(BrowserPoolImpl.class.toString());
+    /**
+     * The shared SystemPropertyUtilsImpl instance.
+     */
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * Browsers are warmed up in daemon threads so a slow browser launch does not hold up the JVM shutting down.
+     */
+    private static final ExecutorService WARM_UP_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "browser-pool-warm-up");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final long NANOSECONDS_PER_MILLISECOND = 1000000L;
+    /**
+     * How often a lease waiting for an idle browser checks whether a browser was destroyed, freeing a slot for a
+     * new browser.
+     */
+    private static final long LEASE_POLL_INTERVAL = 100;
+
+    /**
+     * Creates new, uninitialised browsers from a profile name.
+     */
+    private final Function<String, AutomatedBrowser> browserSupplier;
+    /**
+     * The initialised browsers waiting to be leased, keyed by profile.
+     */
+    private final Map<String, BlockingQueue<AutomatedBrowser>> idleBrowsers = new ConcurrentHashMap<>();
+    /**
+     * The number of live browsers (idle, leased or warming up), keyed by profile.
+     */
+    private final Map<String, AtomicInteger> browserCounts = new ConcurrentHashMap<>();
+    /**
+     * The browsers that are currently leased, mapped to their profile.
+     */
+    private final Map<AutomatedBrowser, String> leasedBrowsers = Collections.synchronizedMap(new IdentityHashMap<>());
+    /**
+     * The number of times each live browser has been leased.
+     */
+    private final Map<AutomatedBrowser, Integer> leaseCounts = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong totalLeaseWait = new AtomicLong();
+    private final AtomicLong maxLeaseWait = new AtomicLong();
+    private final AtomicLong warmUps = new AtomicLong();
+    private final AtomicLong totalWarmUp = new AtomicLong();
+    private final AtomicLong maxWarmUp = new AtomicLong();
+    /**
+     * The browsers that are warming up in the background.
+     */
+    private final Set<CompletableFuture<Void>> warmUpTasks = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown = false;
+
+    /**
+     * Constructor.
+     *
+     * @param browserSupplier A function that creates a new, uninitialised browser from a profile name.
+     */
+    public BrowserPoolImpl(final Function<String, AutomatedBrowser> browserSupplier) {
+        this.browserSupplier = checkNotNull(browserSupplier);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !shutdown && getPoolSize() > 0;
+    }
+
+    @Override
+    public AutomatedBrowser lease(final String browser) {
+        checkNotNull(browser);
+
+        final long start = System.nanoTime();
+        final String key = browser.toLowerCase(Locale.ROOT);
+        final BlockingQueue<AutomatedBrowser> idle = idleBrowsers.computeIfAbsent(key, k -> new LinkedBlockingQueue<>());
+        final AtomicInteger count = browserCounts.computeIfAbsent(key, k -> new AtomicInteger());
+
+        try {
+            AutomatedBrowser automatedBrowser = pollHealthy(idle, count);
+
+            // Every browser for this profile is either leased or still warming up, so wait for one to be released,
+            // or for one to be destroyed, which frees a slot to create a replacement
+            if (automatedBrowser == null && count.get() >= getPoolSize()) {
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(
+                        SYSTEM_PROPERTY_UTILS.getPropertyAsInt(
+                                Constants.BROWSER_POOL_LEASE_TIMEOUT,
+                                Constants.DEFAULT_BROWSER_POOL_LEASE_TIMEOUT));
+                while (automatedBrowser == null && count.get() >= getPoolSize() && System.nanoTime() < deadline) {
+                    final long timeout = Math.min(
+                            deadline - System.nanoTime(),
+                            TimeUnit.MILLISECONDS.toNanos(LEASE_POLL_INTERVAL));
+                    automatedBrowser = Try.of(() -> idle.poll(timeout, TimeUnit.NANOSECONDS))
+                            .filter(b -> b != null)
+                            .map(b -> isHealthy(b) ? b : destroyBrowser(b, count))
+                            .getOrNull();
+                }
+            }
+
+            if (automatedBrowser != null) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                count.incrementAndGet();
+                automatedBrowser = Try.of(() -> initBrowser(browser))
+                        .onFailure(ex -> count.decrementAndGet())
+                        .getOrElseThrow(ex -> new BrowserException("Failed to create the browser " + browser, ex));
+            }
+
+            leasedBrowsers.put(automatedBrowser, key);
+            leaseCounts.merge(automatedBrowser, 1, Integer::sum);
+            // Only warm up once a browser has started, as a failed launch will most likely fail in the background too
+            warmUp(browser, key);
+            return automatedBrowser;
+        } finally {
+            final long wait = System.nanoTime() - start;
+            leases.incrementAndGet();
+            totalLeaseWait.addAndGet(wait);
+            maxLeaseWait.accumulateAndGet(wait, Math::max);
+        }
+    }
+
+    @Override
+    public boolean release(final AutomatedBrowser automatedBrowser) {
+        if (automatedBrowser == null) {
+            return false;
+        }
+
+        final String key = leasedBrowsers.remove(automatedBrowser);
+        if (key == null) {
+            return false;
+        }
+
+        final AtomicInteger count = browserCounts.get(key);
+        if (shutdown || count.get() > getPoolSize() || isWornOut(automatedBrowser) || !resetBrowser(automatedBrowser)) {
+            destroyBrowser(automatedBrowser, count);
+        } else {
+            idleBrowsers.get(key).offer(automatedBrowser);
+        }
+
+        return true;
+    }
+
+    @Override
+    public void shutdown() {
+        final boolean alreadyShutdown = shutdown;
+        shutdown = true;
+        destroyIdleBrowsers();
+        awaitWarmUps();
+        // Browsers that finished warming up while waiting destroy themselves, but drain again in case one was
+        // offered between the first drain and the shutdown flag being seen
+        destroyIdleBrowsers();
+
+        if (!alreadyShutdown && leases.get() != 0) {
+            LOGGER.info("\n" + getStatistics());
+        }
+    }
+
+    @Override
+    public void destroyIdleBrowsers() {
+        idleBrowsers.forEach((key, idle) -> {
+            AutomatedBrowser automatedBrowser;
+            while ((automatedBrowser = idle.poll()) != null) {
+                destroyBrowser(automatedBrowser, browserCounts.get(key));
+            }
+        });
+    }
+
+    @Override
+    public int getIdleBrowserCount() {
+        return idleBrowsers.values().stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    @Override
+    public String getStatistics() {
+        final long leaseCount = Math.max(leases.get(), 1);
+        final long warmUpCount = Math.max(warmUps.get(), 1);
+        return "Browser pool: " + leases.get() + " leases, "
+                + hits.get() + " hits, "
+                + misses.get() + " misses, "
+                + "average lease wait " + totalLeaseWait.get() / leaseCount / NANOSECONDS_PER_MILLISECOND + "ms, "
+                + "max lease wait " + maxLeaseWait.get() / NANOSECONDS_PER_MILLISECOND + "ms, "
+                + warmUps.get() + " browsers started, "
+                + "average warm up " + totalWarmUp.get() / warmUpCount / NANOSECONDS_PER_MILLISECOND + "ms, "
+                + "max warm up " + maxWarmUp.get() / NANOSECONDS_PER_MILLISECOND + "ms";
+    }
+
+    private int getPoolSize() {
+        return SYSTEM_PROPERTY_UTILS.getPropertyAsInt(Constants.BROWSER_POOL_SIZE, 0);
+    }
+
+    /**
+     * Start enough browsers in the background to bring the profile up to the pool size.
+     */
+    private void warmUp(final String browser, final String key) {
+        final AtomicInteger count = browserCounts.get(key);
+        final BlockingQueue<AutomatedBrowser> idle = idleBrowsers.get(key);
+
+        while (!shutdown) {
+            final int current = count.get();
+            if (current >= getPoolSize()) {
+                return;
+            }
+
+            if (count.compareAndSet(current, current + 1)) {
+                final CompletableFuture<Void> warmUpTask = CompletableFuture.runAsync(() -> Try.of(() -> initBrowser(browser))
+                        .onSuccess(automatedBrowser -> {
+                            idle.offer(automatedBrowser);
+                            // The browser was offered after shutdown() drained the idle browsers, so nothing
+                            // else will destroy it
+                            if (shutdown) {
+                                destroyIdleBrowsers();
+                            }
+                        })
+                        .onFailure(ex -> {
+                            count.decrementAndGet();
+                            LOGGER.warning("Failed to warm up the browser " + browser + ": " + ex);
+                        }), WARM_UP_EXECUTOR);
+                warmUpTasks.add(warmUpTask);
+                warmUpTask.whenComplete((result, ex) -> warmUpTasks.remove(warmUpTask));
+            }
+        }
+    }
+
+    /**
+     * Wait for the browsers that are still warming up, so they can be destroyed before the JVM exits.
+     */
+    private void awaitWarmUps() {
+        final long timeout = SYSTEM_PROPERTY_UTILS.getPropertyAsInt(
+                Constants.BROWSER_POOL_LEASE_TIMEOUT,
+                Constants.DEFAULT_BROWSER_POOL_LEASE_TIMEOUT);
+        Try.run(() -> CompletableFuture.allOf(warmUpTasks.toArray(CompletableFuture[]::new))
+                        .get(timeout, TimeUnit.SECONDS))
+                .onFailure(ex -> LOGGER.warning("Timed out waiting for pooled browsers to warm up: " + ex));
+    }
+
+    private AutomatedBrowser initBrowser(final String browser) {
+        final long start = System.nanoTime();
+        final AutomatedBrowser automatedBrowser = browserSupplier.apply(browser);
+        try {
+            automatedBrowser.init();
+        } catch (final RuntimeException ex) {
+            Try.run(automatedBrowser::destroy);
+            throw ex;
+        }
+
+        final long warmUp = System.nanoTime() - start;
+        warmUps.incrementAndGet();
+        totalWarmUp.addAndGet(warmUp);
+        maxWarmUp.accumulateAndGet(warmUp, Math::max);
+        return automatedBrowser;
+    }
+
+    /**
+     * Return the first idle browser that still responds, destroying any that have died while they were idle.
+     */
+    private AutomatedBrowser pollHealthy(final BlockingQueue<AutomatedBrowser> idle, final AtomicInteger count) {
+        AutomatedBrowser automatedBrowser;
+        while ((automatedBrowser = idle.poll()) != null) {
+            if (isHealthy(automatedBrowser)) {
+                return automatedBrowser;
+            }
+            destroyBrowser(automatedBrowser, count);
+        }
+        return null;
+    }
+
+    /**
+     * Remote sessions like BrowserStack time out when they are idle, so check the session is still alive.
+     */
+    private boolean isHealthy(final AutomatedBrowser automatedBrowser) {
+        return Try.of(() -> automatedBrowser.getWebDriver().getWindowHandle()).isSuccess();
+    }
+
+    /**
+     * @return true if the browser has been leased the maximum number of times
+     */
+    private boolean isWornOut(final AutomatedBrowser automatedBrowser) {
+        final int maxReuse = SYSTEM_PROPERTY_UTILS.getPropertyAsInt(Constants.BROWSER_POOL_MAX_REUSE, 0);
+        return maxReuse > 0 && leaseCounts.getOrDefault(automatedBrowser, 0) >= maxReuse;
+    }
+
+    /**
+     * Return the browser to a clean state so the next scenario does not see the previous scenario's session.
+     */
+    private boolean resetBrowser(final AutomatedBrowser automatedBrowser) {
+        return Try.run(automatedBrowser::reset)
+                .onFailure(ex -> LOGGER.warning("Failed to reset the pooled browser, so it will be destroyed: " + ex))
+                .isSuccess();
+    }
+
+    private AutomatedBrowser destroyBrowser(final AutomatedBrowser automatedBrowser, final AtomicInteger count) {
+        count.decrementAndGet();
+        leaseCounts.remove(automatedBrowser);
+        Try.run(automatedBrowser::destroy)
+                .onFailure(ex -> LOGGER.warning("Failed to destroy the pooled browser: " + ex));
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.octopus.utils.impl;
+
+import com.octopus.Constants;
+import com.octopus.utils.Configuration;
+import com.octopus.utils.ConfigurationService;
+import com.octopus.utils.SystemPropertyUtils;
+import io.vavr.control.Try;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+/**
+ * A configuration service whose snapshot is static, so every caller shares the same configuration. Each setting is
+ * read from the request headers passed to the last refresh, then from the system properties, and then from the
+ * environment variables. Headers are named after the setting with the CucumberOption- prefix, and environment
+ * variables with the CucumberOption_ prefix and any character that is not valid in a variable name replaced with
+ * an underscore.
+ */
+public class ConfigurationServiceImpl implements ConfigurationService {
+    private static final Logger LOGGER = Logger.getLogger(ConfigurationServiceImpl.class.toString());
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    private static final List<BiConsumer<Configuration, Configuration>> LISTENERS = new CopyOnWriteArrayList<>();
+    private static volatile Map<String, String> headers = Map.of();
+    private static volatile Configuration configuration = resolve(headers);
+
+    @Override
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    public void refresh() {
+        refresh(headers);
+    }
+
+    @Override
+    public void refresh(final Map<String, String> newHeaders) {
+        final Configuration previous;
+        final Configuration current;
+        synchronized (ConfigurationServiceImpl.class) {
+            headers = newHeaders == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(newHeaders));
+            previous = configuration;
+            current = resolve(headers);
+            configuration = current;
+        }
+
+        if (!current.equals(previous)) {
+            LOGGER.fine("The configuration changed:\n" + String.join("\n", current.getDescription()));
+            LISTENERS.forEach(listener -> Try.run(() -> listener.accept(previous, current))
+                    .onFailure(ex -> LOGGER.warning("A configuration listener failed: " + ex)));
+        }
+    }
+
+    @Override
+    public void addListener(final BiConsumer<Configuration, Configuration> listener) {
+        LISTENERS.add(listener);
+    }
+
+    private static Configuration resolve(final Map<String, String> headers) {
+        return new Configuration(name -> Optional.ofNullable(headers.get(Constants.CONFIGURATION_HEADER_PREFIX + name))
+                .or(() -> Optional.ofNullable(SYSTEM_PROPERTY_UTILS.getProperty(name)))
+                .or(() -> Optional.ofNullable(System.getenv(getEnvironmentName(name))))
+                .orElse(null));
+    }
+
+    private static String getEnvironmentName(final String name) {
+        return Constants.CONFIGURATION_ENV_PREFIX + name.replaceAll("[^A-Za-z0-9_]", "_");
+    }
+}
@@ -0,0 +1,125 @@
+package com.octopus.utils.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.octopus.exceptions.SaveException;
+import com.octopus.utils.CucumberReportMerger;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class CucumberReportMergerImpl implements CucumberReportMerger {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    /**
+     * The JUnit testsuite attributes that are summed when reports are merged.
+     */
+    private static final String[] JUNIT_COUNTERS = {"tests", "skipped", "failures", "errors"};
+
+    @Override
+    public void mergeJsonReports(final List<File> reports, final File output) {
+        try {
+            // Features are keyed by their uri, so scenarios from the same file run by different workers end up together
+            final Map<String, JsonObject> features = new LinkedHashMap<>();
+            for (final File report : reports) {
+                if (!report.exists() || report.length() == 0) {
+                    continue;
+                }
+
+                try (Reader reader = Files.newBufferedReader(report.toPath(), StandardCharsets.UTF_8)) {
+                    for (final JsonElement element : JsonParser.parseReader(reader).getAsJsonArray()) {
+                        final JsonObject feature = element.getAsJsonObject();
+                        final String uri = feature.has("uri") ? feature.get("uri").getAsString() : report.getName();
+                        final JsonObject existing = features.get(uri);
+                        if (existing == null) {
+                            features.put(uri, feature);
+                        } else if (feature.has("elements")) {
+                            if (!existing.has("elements")) {
+                                existing.add("elements", new JsonArray());
+                            }
+                            existing.getAsJsonArray("elements").addAll(feature.getAsJsonArray("elements"));
+                        }
+                    }
+                }
+            }
+
+            final JsonArray merged = new JsonArray();
+            features.values().forEach(merged::add);
+            try (Writer writer = Files.newBufferedWriter(output.toPath(), StandardCharsets.UTF_8)) {
+                GSON.toJson(merged, writer);
+            }
+        } catch (final Exception ex) {
+            throw new SaveException("Failed to merge the Cucumber JSON reports into " + output, ex);
+        }
+    }
+
+    @Override
+    public void mergeJunitReports(final List<File> reports, final File output) {
+        try {
+            final DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+            final Document merged = builder.newDocument();
+            final Element mergedSuite = merged.createElement("testsuite");
+            merged.appendChild(mergedSuite);
+
+            final long[] counters = new long[JUNIT_COUNTERS.length];
+            double time = 0;
+
+            for (final File report : reports) {
+                if (!report.exists() || report.length() == 0) {
+                    continue;
+                }
+
+                final Element suite = builder.parse(report).getDocumentElement();
+                if (!mergedSuite.hasAttribute("name")) {
+                    mergedSuite.setAttribute("name", suite.getAttribute("name"));
+                }
+                for (int i = 0; i < JUNIT_COUNTERS.length; ++i) {
+                    counters[i] += NumberUtils.toLong(suite.getAttribute(JUNIT_COUNTERS[i]), 0);
+                }
+                time += NumberUtils.toDouble(suite.getAttribute("time"), 0);
+
+                final NodeList children = suite.getChildNodes();
+                for (int i = 0; i < children.getLength(); ++i) {
+                    final Node child = children.item(i);
+                    if (child.getNodeType() == Node.ELEMENT_NODE) {
+                        mergedSuite.appendChild(merged.importNode(child, true));
+                    }
+                }
+            }
+
+            for (int i = 0; i < JUNIT_COUNTERS.length; ++i) {
+                mergedSuite.setAttribute(JUNIT_COUNTERS[i], String.valueOf(counters[i]));
+            }
+            mergedSuite.setAttribute("time", String.format(Locale.ROOT, "%.3f", time));
+
+            final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+            transformer.transform(new DOMSource(merged), new StreamResult(output));
+        } catch (final Exception ex) {
+            throw new SaveException("Failed to merge the Cucumber JUnit reports into " + output, ex);
+        }
+    }
+}
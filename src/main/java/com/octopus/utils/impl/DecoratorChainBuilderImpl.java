@@ -0,0 +1,149 @@
+package com.octopus.utils.impl;
+
+import com.octopus.AutomatedBrowser;
+import com.octopus.Constants;
+import com.octopus.decorators.*;
+import com.octopus.exceptions.ConfigurationException;
+import com.octopus.utils.ConfigurationService;
+import com.octopus.utils.DecoratorChainBuilder;
+import com.octopus.utils.SystemPropertyUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * A decorator chain builder that reads the browser profiles from the browser-profiles.properties resource, and
+ * from the file defined by the browserProfilesFile system property. Each profile lists decorator names from the
+ * outermost to the innermost decorator, optionally followed by a colon and an argument.
+ * <p>
+ * The highlight decorator is left out when highlights are disabled, and the mouse movement decorator is left out
+ * when the cursor is not moved to elements or the browser is headless, as neither would do anything other than
+ * look up elements that the inner decorators will look up again.
+ */
+public class DecoratorChainBuilderImpl implements DecoratorChainBuilder {
+    private static final Logger LOGGER = Logger.getLogger(DecoratorChainBuilderImpl.class.toString());
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
+    private static final String PROFILES_RESOURCE = "browser-profiles.properties";
+    private static final String HEADLESS_ARGUMENT = "headless";
+    private static final String MOUSE_MOVEMENT = "mouseMovement";
+    private static final String HIGHLIGHT = "highlight";
+    /**
+     * The decorators that can appear in a profile. Each function is passed the argument from the profile, which
+     * may be empty, and the inner decorator, which is null for the innermost decorator.
+     */
+    private static final Map<String, BiFunction<String, AutomatedBrowser, AutomatedBrowser>> DECORATORS = Map.ofEntries(
+            Map.entry("chrome", (argument, inner) -> new ChromeDecorator(HEADLESS_ARGUMENT.equals(argument), inner)),
+            Map.entry("chromeLambda", (argument, inner) -> new ChromeLambdaDecorator(HEADLESS_ARGUMENT.equals(argument), inner)),
+            Map.entry("firefox", (argument, inner) -> new FirefoxDecorator(HEADLESS_ARGUMENT.equals(argument), inner)),
+            Map.entry("browserStack", (argument, inner) -> new BrowserStackDecorator(inner)),
+            Map.entry("browserStackEdge", (argument, inner) -> new BrowserStackEdgeDecorator(inner)),
+            Map.entry("browserStackAndroid", (argument, inner) -> new BrowserStackAndroidDecorator(inner)),
+            Map.entry("implicitWait", (argument, inner) -> new ImplicitWaitDecorator(NumberUtils.toInt(argument, 10), inner)),
+            Map.entry("browserMob", (argument, inner) -> new BrowserMobDecorator(inner)),
+            Map.entry(MOUSE_MOVEMENT, (argument, inner) -> new MouseMovementDecorator(inner)),
+            Map.entry(HIGHLIGHT, (argument, inner) -> new HighlightDecorator(inner)),
+            Map.entry("webDriver", (argument, inner) -> new WebDriverDecorator()));
+
+    @Override
+    public AutomatedBrowser buildChain(final String browser) {
+        final String profile = loadProfiles().get(StringUtils.defaultString(browser).toLowerCase(Locale.ROOT));
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown browser " + browser);
+        }
+
+        final List<String[]> layers = Arrays.stream(profile.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .map(layer -> new String[]{StringUtils.substringBefore(layer, ":").trim(),
+                        StringUtils.substringAfter(layer, ":").trim()})
+                .collect(Collectors.toList());
+        final boolean headless = layers.stream().anyMatch(layer -> HEADLESS_ARGUMENT.equals(layer[1]));
+
+        final List<String> built = new ArrayList<>();
+        final List<String> elided = new ArrayList<>();
+        AutomatedBrowser automatedBrowser = null;
+        for (int i = layers.size() - 1; i >= 0; --i) {
+            final String name = layers.get(i)[0];
+            final BiFunction<String, AutomatedBrowser, AutomatedBrowser> decorator = DECORATORS.get(name);
+            if (decorator == null) {
+                throw new ConfigurationException("Unknown decorator " + name + " in the browser profile " + browser);
+            }
+
+            if (isDisabled(name, headless)) {
+                elided.add(0, name);
+                continue;
+            }
+
+            automatedBrowser = decorator.apply(layers.get(i)[1], automatedBrowser);
+            built.add(0, automatedBrowser.getClass().getSimpleName());
+        }
+
+        LOGGER.info("Built the " + browser + " browser from " + String.join(" -> ", built)
+                + (elided.isEmpty() ? "" : ", leaving out the disabled decorators " + String.join(", ", elided)));
+        return automatedBrowser;
+    }
+
+    private boolean isDisabled(final String name, final boolean headless) {
+        if (MOUSE_MOVEMENT.equals(name)) {
+            return headless
+                    || GraphicsEnvironment.isHeadless()
+                    || !CONFIGURATION_SERVICE.getConfiguration().isMoveCursorToElement();
+        }
+
+        if (HIGHLIGHT.equals(name)) {
+            return CONFIGURATION_SERVICE.getConfiguration().isDisableHighlights();
+        }
+
+        return false;
+    }
+
+    /**
+     * @return The profiles keyed by the lower case profile name, with those in the browserProfilesFile file
+     * replacing the built in profiles
+     */
+    private Map<String, String> loadProfiles() {
+        final Map<String, String> profiles = new HashMap<>();
+        try (InputStream stream = DecoratorChainBuilderImpl.class.getClassLoader().getResourceAsStream(PROFILES_RESOURCE)) {
+            if (stream != null) {
+                final Properties properties = new Properties();
+                properties.load(stream);
+                addProfiles(properties, profiles);
+            }
+
+            final String file = SYSTEM_PROPERTY_UTILS.getPropertyEmptyAsNull(Constants.BROWSER_PROFILES_FILE);
+            if (file != null) {
+                try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+                    final Properties properties = new Properties();
+                    properties.load(reader);
+                    addProfiles(properties, profiles);
+                }
+            }
+        } catch (final IOException ex) {
+            throw new ConfigurationException("Failed to load the browser profiles", ex);
+        }
+        return profiles;
+    }
+
+    private void addProfiles(final Properties properties, final Map<String, String> profiles) {
+        properties.stringPropertyNames().forEach(name ->
+                profiles.put(name.toLowerCase(Locale.ROOT), properties.getProperty(name)));
+    }
+}
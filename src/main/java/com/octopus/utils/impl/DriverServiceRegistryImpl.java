@@ -0,0 +1,191 @@
+package com.octopus.utils.impl;
+
+import com.octopus.Constants;
+import com.octopus.exceptions.BrowserException;
+import com.octopus.utils.DriverServiceRegistry;
+import com.octopus.utils.SystemPropertyUtils;
+import io.vavr.control.Try;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * A registry that keeps one chromedriver service per driver binary, shared by all Chrome sessions, and a set of
+ * idle geckodriver services, each serving one Firefox session at a time. The registry state is static so every
+ * decorator shares the same services. Services that have stopped running are replaced.
+ */
+public class DriverServiceRegistryImpl implements DriverServiceRegistry {
+    private static final Logger LOGGER = Logger.getLogger(DriverServiceRegistryImpl.class.toString());
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * The chromedriver services, keyed by the driver binary. Each service is started outside the map's lock, so a
+     * slow start only holds up the callers waiting for the same service.
+     */
+    private static final Map<String, CompletableFuture<ChromeDriverService>> CHROME_SERVICES = new ConcurrentHashMap<>();
+    /**
+     * The geckodriver services that are not serving a session, keyed by the driver binary.
+     */
+    private static final Map<String, Queue<GeckoDriverService>> IDLE_GECKO_SERVICES = new ConcurrentHashMap<>();
+    /**
+     * Every geckodriver service that has been started, so they can all be stopped on shutdown.
+     */
+    private static final Queue<GeckoDriverService> GECKO_SERVICES = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong SERVICES_STARTED = new AtomicLong();
+    private static final AtomicLong TOTAL_STARTUP_TIME = new AtomicLong();
+    private static final AtomicLong MAX_STARTUP_TIME = new AtomicLong();
+    private static final AtomicLong SESSIONS = new AtomicLong();
+
+    @Override
+    public boolean isEnabled() {
+        return SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.SHARE_DRIVER_SERVICES, false);
+    }
+
+    @Override
+    public WebDriver createChromeDriver(final ChromeOptions options) {
+        final String key = Objects.toString(System.getProperty(ChromeDriverService.CHROME_DRIVER_EXE_PROPERTY), "");
+        final ChromeDriverService service = getChromeService(key);
+
+        return createSession(service.getUrl(), options, () -> {
+        });
+    }
+
+    @Override
+    public WebDriver createFirefoxDriver(final FirefoxOptions options) {
+        final String key = Objects.toString(System.getProperty(GeckoDriverService.GECKO_DRIVER_EXE_PROPERTY), "");
+        final Queue<GeckoDriverService> idle = IDLE_GECKO_SERVICES.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+
+        GeckoDriverService service;
+        while ((service = idle.poll()) != null && !service.isRunning()) {
+            GECKO_SERVICES.remove(service);
+        }
+        if (service == null) {
+            service = startService(GeckoDriverService::createDefaultService);
+            GECKO_SERVICES.add(service);
+        }
+
+        final GeckoDriverService leasedService = service;
+        try {
+            return createSession(service.getUrl(), options, () -> {
+                if (leasedService.isRunning()) {
+                    idle.offer(leasedService);
+                } else {
+                    GECKO_SERVICES.remove(leasedService);
+                }
+            });
+        } catch (final RuntimeException ex) {
+            idle.offer(leasedService);
+            throw ex;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        CHROME_SERVICES.values().forEach(future -> future.thenAccept(service -> Try.run(service::stop)));
+        CHROME_SERVICES.clear();
+        GECKO_SERVICES.forEach(service -> Try.run(service::stop));
+        GECKO_SERVICES.clear();
+        IDLE_GECKO_SERVICES.clear();
+
+        if (SERVICES_STARTED.get() != 0) {
+            LOGGER.info("\n" + getStatistics());
+        }
+    }
+
+    @Override
+    public String getStatistics() {
+        return "Driver services: " + SERVICES_STARTED.get() + " started, "
+                + SESSIONS.get() + " sessions served, "
+                + "average startup " + TOTAL_STARTUP_TIME.get() / Math.max(SERVICES_STARTED.get(), 1) + "ms, "
+                + "max startup " + MAX_STARTUP_TIME.get() + "ms";
+    }
+
+    private ChromeDriverService getChromeService(final String key) {
+        while (true) {
+            final CompletableFuture<ChromeDriverService> future = new CompletableFuture<>();
+            final CompletableFuture<ChromeDriverService> existing = CHROME_SERVICES.putIfAbsent(key, future);
+            if (existing == null) {
+                try {
+                    final ChromeDriverService service = startService(ChromeDriverService::createDefaultService);
+                    future.complete(service);
+                    return service;
+                } catch (final RuntimeException ex) {
+                    // Remove the failed start so the next caller tries again
+                    CHROME_SERVICES.remove(key, future);
+                    future.completeExceptionally(ex);
+                    throw ex;
+                }
+            }
+
+            final ChromeDriverService service = Try.of(existing::join)
+                    .getOrElseThrow(ex -> new BrowserException("Failed to start the driver service", ex));
+            if (service.isRunning()) {
+                return service;
+            }
+
+            // The service has stopped, so start a replacement
+            CHROME_SERVICES.remove(key, existing);
+        }
+    }
+
+    private <T extends DriverService> T startService(final Supplier<T> serviceSupplier) {
+        final long start = System.currentTimeMillis();
+        final T service = serviceSupplier.get();
+        Try.run(service::start)
+                .getOrElseThrow(ex -> new BrowserException("Failed to start the driver service", ex));
+
+        final long startup = System.currentTimeMillis() - start;
+        SERVICES_STARTED.incrementAndGet();
+        TOTAL_STARTUP_TIME.addAndGet(startup);
+        MAX_STARTUP_TIME.accumulateAndGet(startup, Math::max);
+        LOGGER.info("Started the driver service " + service.getUrl() + " in " + startup + "ms");
+        return service;
+    }
+
+    private WebDriver createSession(final URL url, final Capabilities capabilities, final Runnable onQuit) {
+        final WebDriver webDriver = new SharedServiceWebDriver(url, capabilities, onQuit);
+        SESSIONS.incrementAndGet();
+        return webDriver;
+    }
+
+    /**
+     * A RemoteWebDriver that lets the registry know when the session is quit. Unlike ChromeDriver and
+     * FirefoxDriver, quitting this driver does not stop the driver service.
+     */
+    private static class SharedServiceWebDriver extends RemoteWebDriver {
+        private final Runnable onQuit;
+        private final AtomicBoolean quit = new AtomicBoolean(false);
+
+        SharedServiceWebDriver(final URL url, final Capabilities capabilities, final Runnable onQuit) {
+            super(url, capabilities);
+            this.onQuit = onQuit;
+        }
+
+        @Override
+        public void quit() {
+            try {
+                super.quit();
+            } finally {
+                if (quit.compareAndSet(false, true)) {
+                    onQuit.run();
+                }
+            }
+        }
+    }
+}
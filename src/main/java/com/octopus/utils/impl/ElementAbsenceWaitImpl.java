@@ -0,0 +1,74 @@
+package com.octopus.utils.impl;
+
+import com.octopus.exceptions.WebElementException;
+import com.octopus.utils.Deadline;
+import com.octopus.utils.ElementAbsenceWait;
+import com.octopus.utils.ElementWaitEngine;
+import com.octopus.utils.LocatorClassification;
+import com.octopus.utils.LocatorClassifier;
+import com.octopus.utils.StepScope;
+import io.vavr.control.Try;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.logging.Logger;
+
+/**
+ * An absence wait that asks the browser to report when the last matching element is removed, using the
+ * ElementWaitEngine. If event driven waits are disabled, or the browser can not run asynchronous scripts, the
+ * element is polled with findElements, which does not throw when nothing matches, backing off between polls.
+ */
+public class ElementAbsenceWaitImpl implements ElementAbsenceWait {
+    private static final Logger LOGGER = Logger.getLogger(ElementAbsenceWaitImpl.class.toString());
+    private static final ElementWaitEngine ELEMENT_WAIT_ENGINE = new ElementWaitEngineImpl();
+    private static final LocatorClassifier LOCATOR_CLASSIFIER = new LocatorClassifierImpl();
+    private static final StepScope STEP_SCOPE = new StepScopeImpl();
+    private static final int MILLISECONDS_PER_SECOND = 1000;
+    private static final long INITIAL_BACKOFF = 50;
+    private static final long MAX_BACKOFF = 1000;
+
+    @Override
+    public long awaitAbsence(final WebDriver webDriver, final String locator, final int waitTime) {
+        final long start = System.nanoTime();
+        final LocatorClassification classification = LOCATOR_CLASSIFIER.classify(locator);
+        final Deadline deadline = STEP_SCOPE.getDeadline(waitTime * MILLISECONDS_PER_SECOND);
+
+        final boolean absent = ELEMENT_WAIT_ENGINE.isEnabled() && webDriver instanceof JavascriptExecutor
+                ? Try.of(() -> ELEMENT_WAIT_ENGINE.awaitState(
+                        webDriver,
+                        classification.getCandidates(),
+                        ElementWaitEngine.ElementState.ABSENT,
+                        deadline.getRemainingMillis()))
+                .onFailure(ex -> LOGGER.fine("Falling back to polling for the absence of " + locator + ": " + ex))
+                .getOrElse(() -> pollAbsence(webDriver, classification, deadline))
+                : pollAbsence(webDriver, classification, deadline);
+
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        if (!absent) {
+            throw new WebElementException("Element located by " + locator + " was still present after " + waitTime + " seconds");
+        }
+
+        LOGGER.fine("Element located by " + locator + " was not present after " + elapsed + "ms");
+        return elapsed;
+    }
+
+    private boolean pollAbsence(final WebDriver webDriver, final LocatorClassification classification, final Deadline deadline) {
+        long backoff = INITIAL_BACKOFF;
+        while (true) {
+            final boolean present = classification.getCandidates().stream()
+                    .anyMatch(candidate -> Try.of(() -> webDriver.findElements(candidate.getBy()))
+                            .map(elements -> !elements.isEmpty())
+                            .getOrElse(false));
+            if (!present) {
+                return true;
+            }
+            if (deadline.isExpired()) {
+                return false;
+            }
+
+            final long sleep = Math.min(backoff, deadline.getRemainingMillis());
+            Try.run(() -> Thread.sleep(sleep));
+            backoff = Math.min(backoff * 2, MAX_BACKOFF);
+        }
+    }
+}
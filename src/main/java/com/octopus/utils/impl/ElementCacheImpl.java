@@ -0,0 +1,130 @@
+package com.octopus.utils.impl;
+
+import com.octopus.Constants;
+import com.octopus.utils.ElementCache;
+import com.octopus.utils.ExpectedConditionCallback;
+import com.octopus.utils.SystemPropertyUtils;
+import io.vavr.control.Try;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * An element cache that holds the elements for the step running on each thread in a static ThreadLocal. The cache
+ * is cleared at the start and end of each step by the StepElementCacheHandler plugin.
+ */
+public class ElementCacheImpl implements ElementCache {
+    private static final Logger LOGGER = Logger.getLogger(ElementCacheImpl.class.toString());
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * The By used to work out the name of an expected condition.
+     */
+    private static final By CONDITION_PROBE = By.id("");
+    private static final ThreadLocal<Map<String, CachedElement>> ELEMENTS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<long[]> STEP_COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    @Override
+    public boolean isEnabled() {
+        return SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.STEP_ELEMENT_CACHE, false);
+    }
+
+    @Override
+    public Optional<WebElement> getElement(
+            final WebDriver webDriver,
+            final String locator,
+            final ExpectedConditionCallback expectedConditionCallback) {
+        final CachedElement cached = ELEMENTS.get().get(locator);
+        final Optional<WebElement> element = cached == null || cached.webDriver != webDriver
+                ? Optional.empty()
+                : validate(cached, locator, expectedConditionCallback);
+
+        (element.isPresent() ? HITS : MISSES).incrementAndGet();
+        STEP_COUNTS.get()[element.isPresent() ? 0 : 1]++;
+        return element;
+    }
+
+    @Override
+    public void putElement(
+            final WebDriver webDriver,
+            final String locator,
+            final ExpectedConditionCallback expectedConditionCallback,
+            final By by,
+            final WebElement element) {
+        ELEMENTS.get().put(locator, new CachedElement(webDriver, by, getConditionName(expectedConditionCallback), element));
+    }
+
+    @Override
+    public void clear() {
+        final long[] counts = STEP_COUNTS.get();
+        if (counts[0] + counts[1] != 0) {
+            LOGGER.fine("Step element cache: " + counts[0] + " hits, " + counts[1] + " misses");
+        }
+        ELEMENTS.remove();
+        STEP_COUNTS.remove();
+    }
+
+    @Override
+    public String getStatistics() {
+        final long total = HITS.get() + MISSES.get();
+        return "Step element cache: " + HITS.get() + " hits, " + MISSES.get() + " misses, "
+                + (total == 0 ? 0 : HITS.get() * 100 / total) + "% hit rate";
+    }
+
+    private Optional<WebElement> validate(
+            final CachedElement cached,
+            final String locator,
+            final ExpectedConditionCallback expectedConditionCallback) {
+        final String conditionName = getConditionName(expectedConditionCallback);
+
+        if (conditionName.equals(cached.conditionName)) {
+            // Any call on a stale element throws a StaleElementReferenceException
+            if (Try.of(cached.element::isEnabled).isSuccess()) {
+                return Optional.of(cached.element);
+            }
+        } else {
+            // The element was found with a different condition, so check the new condition once
+            final WebElement element = Try.of(() -> expectedConditionCallback
+                    .getExpectedCondition(cached.by)
+                    .apply(cached.webDriver))
+                    .getOrNull();
+            if (element != null) {
+                ELEMENTS.get().put(locator, new CachedElement(cached.webDriver, cached.by, conditionName, element));
+                return Optional.of(element);
+            }
+        }
+
+        ELEMENTS.get().remove(locator);
+        return Optional.empty();
+    }
+
+    /**
+     * Expected conditions describe themselves and the By they use, so an expected condition created with a
+     * fixed By identifies the kind of condition.
+     */
+    private String getConditionName(final ExpectedConditionCallback expectedConditionCallback) {
+        return Try.of(() -> expectedConditionCallback.getExpectedCondition(CONDITION_PROBE).toString())
+                .getOrElse(expectedConditionCallback.getClass().getName());
+    }
+
+    private static class CachedElement {
+        private final WebDriver webDriver;
+        private final By by;
+        private final String conditionName;
+        private final WebElement element;
+
+        CachedElement(final WebDriver webDriver, final By by, final String conditionName, final WebElement element) {
+            this.webDriver = webDriver;
+            this.by = by;
+            this.conditionName = conditionName;
+            this.element = element;
+        }
+    }
+}
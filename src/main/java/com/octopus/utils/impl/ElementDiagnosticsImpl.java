@@ -0,0 +1,155 @@
+package com.octopus.utils.impl;
+
+import com.octopus.Constants;
+import com.octopus.utils.ConfigurationService;
+import com.octopus.utils.ElementDiagnostics;
+import com.octopus.utils.SystemPropertyUtils;
+import io.vavr.control.Try;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * An element diagnostics service that checks each locator at most once per interval. The time each locator was
+ * checked is kept for a bounded number of locators, so generated locators don't grow the map forever. The matched
+ * elements are
+ * described with a single script, and the report is logged by a background thread with a bounded queue. Reports
+ * are dropped, rather than blocking the test, if the queue is full.
+ */
+public class ElementDiagnosticsImpl implements ElementDiagnostics {
+    private static final Logger LOGGER = Logger.getLogger(ElementDiagnosticsImpl.class.toString());
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
+    /**
+     * The maximum number of locators whose last check time is kept.
+     */
+    private static final int MAX_LOCATORS = 10000;
+    private static final int QUEUE_SIZE = 100;
+    private static final int FLUSH_TIMEOUT = 10000;
+    private static final int FLUSH_POLL = 50;
+    /**
+     * Returns the page URL, and the tag name and page coordinates of each element.
+     */
+    private static final String DESCRIBE_SCRIPT = """
+            return [window.location.href, arguments[0].map(e => {
+                const rect = e.getBoundingClientRect();
+                return e.tagName.toLowerCase() + ' X: ' + Math.round(rect.left + window.scrollX)
+                    + ' Y: ' + Math.round(rect.top + window.scrollY);
+            })];
+            """;
+    /**
+     * The time each locator was last checked, from System.nanoTime().
+     */
+    private static final Map<String, Long> LAST_CHECKED = new ConcurrentHashMap<>();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_SIZE),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "element-diagnostics");
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, executor) -> DROPPED.incrementAndGet());
+
+    @Override
+    public void checkMultipleElements(final WebDriver webDriver, final By by, final String locator) {
+        if (!shouldCheck(locator)) {
+            return;
+        }
+
+        final List<WebElement> matched = webDriver.findElements(by);
+        if (matched.size() <= 1) {
+            return;
+        }
+
+        final List<?> description = describe(webDriver, matched);
+        final List<byte[]> screenshots =
+                SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.SAVE_SCREENSHOTS_OF_MATCHED_ELEMENTS, false)
+                        ? matched.stream()
+                        .map(e -> Try.of(() -> e.getScreenshotAs(OutputType.BYTES)).getOrNull())
+                        .collect(Collectors.toList())
+                        : List.of();
+
+        EXECUTOR.execute(() -> report(locator, matched.size(), description, screenshots));
+    }
+
+    @Override
+    public void flush() {
+        final long start = System.currentTimeMillis();
+        while ((!EXECUTOR.getQueue().isEmpty() || EXECUTOR.getActiveCount() != 0)
+                && System.currentTimeMillis() - start < FLUSH_TIMEOUT) {
+            Try.run(() -> Thread.sleep(FLUSH_POLL));
+        }
+        if (DROPPED.get() != 0) {
+            LOGGER.info(DROPPED.get() + " multiple element reports were dropped because the queue was full");
+        }
+    }
+
+    private boolean shouldCheck(final String locator) {
+        final long interval = TimeUnit.SECONDS.toNanos(
+                CONFIGURATION_SERVICE.getConfiguration().getMultipleElementDiagnosticsInterval());
+        final long now = System.nanoTime();
+        final Long lastChecked = LAST_CHECKED.get(locator);
+        if (lastChecked != null && now - lastChecked < interval) {
+            return false;
+        }
+
+        // Only one thread wins the right to check the locator
+        if (lastChecked == null) {
+            evictIfFull(now, interval);
+            return LAST_CHECKED.putIfAbsent(locator, now) == null;
+        }
+        return LAST_CHECKED.replace(locator, lastChecked, now);
+    }
+
+    private void evictIfFull(final long now, final long interval) {
+        if (LAST_CHECKED.size() < MAX_LOCATORS) {
+            return;
+        }
+
+        // Locators checked longer ago than the interval would be checked again anyway
+        LAST_CHECKED.values().removeIf(lastChecked -> now - lastChecked >= interval);
+        if (LAST_CHECKED.size() >= MAX_LOCATORS) {
+            // Every locator was checked recently, most likely because they are generated, so start again
+            LAST_CHECKED.clear();
+        }
+    }
+
+    private List<?> describe(final WebDriver webDriver, final List<WebElement> matched) {
+        return Try.of(() -> (List<?>) ((JavascriptExecutor) webDriver).executeScript(DESCRIBE_SCRIPT, matched))
+                .filter(result -> result != null && result.size() == 2)
+                .getOrElse(() -> List.of(webDriver.getCurrentUrl(), List.of()));
+    }
+
+    private void report(final String locator, final int count, final List<?> description, final List<byte[]> screenshots) {
+        final StringBuilder report = new StringBuilder()
+                .append("\nMatched ").append(count).append(" elements with the locator on the page ").append(description.get(0))
+                .append("\n").append(locator);
+        ((List<?>) description.get(1)).forEach(element -> report.append("\n").append(element));
+        screenshots.stream()
+                .filter(Objects::nonNull)
+                .forEach(screenshot -> Try.run(() -> {
+                    final Path temp = Files.createTempFile("element", ".png");
+                    Files.write(temp, screenshot);
+                    report.append("\n").append(temp.toFile().getCanonicalPath());
+                }));
+        report.append("\nConsider fixing the locator to be specific to a single element.");
+        LOGGER.info(report.toString());
+    }
+}
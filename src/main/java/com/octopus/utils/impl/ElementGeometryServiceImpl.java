@@ -0,0 +1,69 @@
+package com.octopus.utils.impl;
+
+import com.octopus.exceptions.WebElementException;
+import com.octopus.utils.ElementGeometry;
+import com.octopus.utils.ElementGeometryService;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Implementation of ElementGeometryService
+ */
+public class ElementGeometryServiceImpl implements ElementGeometryService {
+    private static final String GEOMETRY_SCRIPT = """
+            const element = arguments[0];
+            const rect = element.getBoundingClientRect();
+            const style = getComputedStyle(element);
+            return {
+                left: rect.left,
+                top: rect.top,
+                width: rect.width,
+                height: rect.height,
+                viewportWidth: window.innerWidth,
+                viewportHeight: window.innerHeight,
+                scrollX: window.scrollX,
+                scrollY: window.scrollY,
+                devicePixelRatio: window.devicePixelRatio,
+                visible: rect.width > 0 && rect.height > 0
+                    && style.visibility !== 'hidden' && style.display !== 'none'
+                    && rect.bottom > 0 && rect.right > 0
+                    && rect.top < window.innerHeight && rect.left < window.innerWidth
+            };
+            """;
+
+    @Override
+    public ElementGeometry getGeometry(final JavascriptExecutor javascriptExecutor, final WebElement element) {
+        checkNotNull(javascriptExecutor);
+        checkNotNull(element);
+
+        final Object result = javascriptExecutor.executeScript(GEOMETRY_SCRIPT, element);
+        if (!(result instanceof Map)) {
+            throw new WebElementException("Failed to read the geometry of the element " + element);
+        }
+
+        final Map<?, ?> geometry = (Map<?, ?>) result;
+        return new ElementGeometry(
+                getNumber(geometry, "left"),
+                getNumber(geometry, "top"),
+                getNumber(geometry, "width"),
+                getNumber(geometry, "height"),
+                getNumber(geometry, "viewportWidth"),
+                getNumber(geometry, "viewportHeight"),
+                getNumber(geometry, "scrollX"),
+                getNumber(geometry, "scrollY"),
+                getNumber(geometry, "devicePixelRatio"),
+                Boolean.TRUE.equals(geometry.get("visible")));
+    }
+
+    /**
+     * Browsers return whole numbers as Longs and fractions as Doubles.
+     */
+    private double getNumber(final Map<?, ?> geometry, final String name) {
+        final Object value = geometry.get(name);
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+}
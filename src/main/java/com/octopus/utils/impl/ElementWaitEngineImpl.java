@@ -0,0 +1,131 @@
+package com.octopus.utils.impl;
+
+import com.octopus.Constants;
+import com.octopus.utils.Deadline;
+import com.octopus.utils.ElementWaitEngine;
+import com.octopus.utils.LocatorCandidate;
+import com.octopus.utils.SystemPropertyUtils;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A wait engine that installs a MutationObserver with an asynchronous script. The script checks the element
+ * state when it starts, and again each time the DOM changes, completing as soon as the state is reached or
+ * the timeout expires.
+ */
+public class ElementWaitEngineImpl implements ElementWaitEngine {
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * The longest time a single wait script runs for. This is well inside the 30 second script timeout a W3C session
+     * starts with, so longer waits are made up of several scripts, and the script timeout, which Selenium 3 can not
+     * read, is never changed.
+     */
+    private static final long MAX_SCRIPT_WAIT = 20000;
+    /**
+     * The pseudo state used to wait for any DOM change.
+     */
+    private static final String MUTATION = "MUTATION";
+    private static final String WAIT_SCRIPT = """
+            const [candidates, state, timeout] = arguments;
+            const done = arguments[arguments.length - 1];
+            const find = {
+                ID: locator => [document.getElementById(locator)].filter(e => e),
+                XPATH: locator => {
+                    const result = document.evaluate(
+                        locator, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                    return Array.from({length: result.snapshotLength}, (_, i) => result.snapshotItem(i));
+                },
+                CSS_SELECTOR: locator => Array.from(document.querySelectorAll(locator)),
+                CLASS_NAME: locator => /\\s/.test(locator.trim()) ? [] : Array.from(document.getElementsByClassName(locator)),
+                LINK_TEXT: locator => Array.from(document.getElementsByTagName('a'))
+                    .filter(a => (a.innerText || a.textContent || '').trim() === locator.trim()),
+                NAME: locator => Array.from(document.getElementsByName(locator))
+            };
+            const elements = () => candidates.flatMap(([strategy, locator]) => {
+                try {
+                    return find[strategy](locator);
+                } catch (e) {
+                    return [];
+                }
+            });
+            const satisfied = () => {
+                if (state === 'MUTATION') {
+                    return false;
+                }
+                const matched = elements();
+                if (state === 'ABSENT') {
+                    return matched.length === 0;
+                }
+                if (state === 'CLICKABLE') {
+                    return matched.some(e => e.getClientRects().length > 0 && !e.disabled);
+                }
+                return matched.length > 0;
+            };
+            if (satisfied()) {
+                done(true);
+                return;
+            }
+            let finished = false;
+            let timer = null;
+            const observer = new MutationObserver(() => {
+                if (state === 'MUTATION' || satisfied()) {
+                    finish(true);
+                }
+            });
+            const finish = result => {
+                if (!finished) {
+                    finished = true;
+                    observer.disconnect();
+                    clearTimeout(timer);
+                    done(result);
+                }
+            };
+            observer.observe(document.documentElement || document,
+                {childList: true, subtree: true, attributes: true, characterData: true});
+            timer = setTimeout(() => finish(satisfied()), timeout);
+            """;
+
+    @Override
+    public boolean isEnabled() {
+        return SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.MUTATION_OBSERVER_WAITS, false);
+    }
+
+    @Override
+    public boolean awaitState(
+            final WebDriver webDriver,
+            final List<LocatorCandidate> candidates,
+            final ElementState state,
+            final long timeout) {
+        return runWaitScript(
+                webDriver,
+                candidates.stream()
+                        .map(candidate -> List.of(candidate.getStrategy().name(), candidate.getLocator()))
+                        .collect(Collectors.toList()),
+                state.name(),
+                timeout);
+    }
+
+    @Override
+    public boolean awaitMutation(final WebDriver webDriver, final long timeout) {
+        return runWaitScript(webDriver, List.of(), MUTATION, timeout);
+    }
+
+    private boolean runWaitScript(
+            final WebDriver webDriver,
+            final List<List<String>> candidates,
+            final String state,
+            final long timeout) {
+        final Deadline deadline = Deadline.afterMillis(Math.max(timeout, 0));
+        while (true) {
+            final long scriptWait = Math.min(deadline.getRemainingMillis(), MAX_SCRIPT_WAIT);
+            final boolean satisfied = Boolean.TRUE.equals(((JavascriptExecutor) webDriver).executeAsyncScript(
+                    WAIT_SCRIPT, candidates, state, scriptWait));
+            if (satisfied || deadline.isExpired()) {
+                return satisfied;
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.octopus.utils.impl;
+
+import com.browserup.harreader.model.Har;
+import com.browserup.harreader.model.HarEntry;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.octopus.exceptions.SaveException;
+import com.octopus.utils.HarStream;
+import io.vavr.control.Try;
+import org.apache.commons.lang3.Range;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A HAR stream that writes each completed entry as a line of JSON to a gzip compressed temporary file, and
+ * removes it from the proxy's HAR. An entry is complete once the proxy has recorded its total time. Entries that
+ * are still in progress stay in the HAR, and are saved from there.
+ * <p>
+ * BrowserUp's HarLog keeps the entries in a CopyOnWriteArrayList, so entries can be removed while the proxy threads
+ * add new ones.
+ * <p>
+ * The temporary file is closed before it is read, and reopened in append mode, which adds a new gzip member that
+ * GZIPInputStream reads as part of the same stream.
+ */
+public class HarStreamImpl implements HarStream {
+    private static final Logger LOGGER = Logger.getLogger(HarStreamImpl.class.toString());
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    /**
+     * How often completed entries are moved to disk.
+     */
+    private static final int DRAIN_INTERVAL = 1000;
+    /**
+     * The number of errors kept in memory for getErrors(). Any more are only counted.
+     */
+    private static final int MAX_ERRORS = 1000;
+    private static final Range<Integer> ERROR_STATUS = Range.between(400, 599);
+    private static final ScheduledExecutorService DRAIN_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "har-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Har har;
+    private final AutoDeletingTempFile fragment;
+    private final List<Pair<String, Integer>> errors = new ArrayList<>();
+    private final ScheduledFuture<?> drainTask;
+    private Writer writer;
+    private long entries;
+    private long droppedErrors;
+
+    /**
+     * Constructor. Completed entries are moved to disk in the background until the stream is closed.
+     *
+     * @param har The HAR the proxy is capturing
+     */
+    public HarStreamImpl(final Har har) {
+        this.har = har;
+        this.fragment = Try.of(() -> new AutoDeletingTempFile("har", ".jsonl.gz"))
+                .getOrElseThrow(ex -> new SaveException("Failed to create the HAR entries file", ex));
+        this.writer = openWriter();
+        this.drainTask = DRAIN_EXECUTOR.scheduleWithFixedDelay(
+                () -> Try.run(this::drain).onFailure(ex -> LOGGER.warning("Failed to write the HAR entries: " + ex)),
+                DRAIN_INTERVAL,
+                DRAIN_INTERVAL,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void drain() {
+        if (writer == null) {
+            return;
+        }
+
+        final List<HarEntry> harEntries = har.getLog().getEntries();
+        final Set<HarEntry> drained = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            for (final HarEntry entry : List.copyOf(harEntries)) {
+                if (isComplete(entry)) {
+                    writer.write(OBJECT_MAPPER.writeValueAsString(entry));
+                    writer.write('\n');
+                    indexErrors(entry);
+                    drained.add(entry);
+                }
+            }
+            writer.flush();
+        } catch (final IOException ex) {
+            throw new SaveException(ex);
+        } finally {
+            // Only remove the entries that were written, so a failed write leaves the rest to be saved from memory
+            if (!drained.isEmpty()) {
+                harEntries.removeIf(drained::contains);
+                entries += drained.size();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void save(final File file) {
+        drain();
+        Try.run(writer::close).getOrElseThrow(ex -> new SaveException("Failed to close the HAR entries file", ex));
+        writer = null;
+
+        try (OutputStream output = openOutput(file);
+             JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(output);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(
+                     new GZIPInputStream(new FileInputStream(fragment.getFile())), StandardCharsets.UTF_8))) {
+            final ObjectNode log = OBJECT_MAPPER.valueToTree(har.getLog());
+            log.remove("entries");
+
+            generator.writeStartObject();
+            generator.writeFieldName("log");
+            generator.writeStartObject();
+            for (final Iterator<Map.Entry<String, JsonNode>> fields = log.fields(); fields.hasNext(); ) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+            generator.writeFieldName("entries");
+            generator.writeStartArray();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                generator.writeRawValue(line);
+            }
+            for (final HarEntry entry : har.getLog().getEntries()) {
+                generator.writeObject(entry);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        } catch (final IOException ex) {
+            throw new SaveException(ex);
+        } finally {
+            writer = openWriter();
+        }
+
+        LOGGER.info("Saved " + entries + " HAR entries from disk and "
+                + har.getLog().getEntries().size() + " from memory to " + file);
+    }
+
+    @Override
+    public synchronized List<Pair<String, Integer>> getErrors() {
+        if (droppedErrors != 0) {
+            LOGGER.warning(droppedErrors + " HTTP errors were not kept, as only the first " + MAX_ERRORS + " are listed");
+        }
+
+        final List<Pair<String, Integer>> allErrors = new ArrayList<>(errors);
+        har.getLog().getEntries().stream()
+                .filter(entry -> ERROR_STATUS.contains(entry.getResponse().getStatus()))
+                .map(entry -> Pair.of(entry.getRequest().getUrl(), entry.getResponse().getStatus()))
+                .forEach(allErrors::add);
+        return allErrors;
+    }
+
+    @Override
+    public synchronized void close() {
+        drainTask.cancel(false);
+        if (writer != null) {
+            Try.run(writer::close);
+            writer = null;
+        }
+        fragment.close();
+    }
+
+    private Writer openWriter() {
+        return Try.of(() -> new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(new FileOutputStream(fragment.getFile(), true)),
+                        StandardCharsets.UTF_8)))
+                .getOrElseThrow(ex -> new SaveException("Failed to open the HAR entries file", ex));
+    }
+
+    private static OutputStream openOutput(final File file) throws IOException {
+        final FileOutputStream output = new FileOutputStream(file);
+        return file.getName().endsWith(".gz") ? new GZIPOutputStream(output) : output;
+    }
+
+    private static boolean isComplete(final HarEntry entry) {
+        return Optional.ofNullable(entry.getTime())
+                .map(Number::longValue)
+                .filter(time -> time > 0)
+                .isPresent();
+    }
+
+    private void indexErrors(final HarEntry entry) {
+        final int status = entry.getResponse().getStatus();
+        if (!ERROR_STATUS.contains(status)) {
+            return;
+        }
+
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(Pair.of(entry.getRequest().getUrl(), status));
+        } else {
+            ++droppedErrors;
+        }
+    }
+}
@@ -43,7 +43,7 @@ public class JavaLauncherUtilsImpl implements JavaLauncherUtils {
             }
 
             // First see if the supplied file is an absolute path, otherwise assume it is in the same directory as the current feature file
-            if (StringUtils.isBlank(args)) {
+            if (StringUtils.isNotBlank(args)) {
                 cmd.append(" ");
                 cmd.append(args);
             }
@@ -54,6 +54,41 @@ public class JavaLauncherUtilsImpl implements JavaLauncherUtils {
         }
     }
 
+    @Override
+    public Process launchAppInBackground(final List<String> additionalVmArgs, final List<String> args) {
+        try {
+            final List<String> cmd = new ArrayList<>();
+            cmd.add(System.getProperty("java.home") + "/bin/java");
+            for (final String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+                // ignore the agent argument, as well as any argument that is to be overridden
+                if (!arg.contains("-agentlib") && additionalVmArgs.stream().noneMatch(a -> isSameSystemProperty(arg, a))) {
+                    cmd.add(arg);
+                }
+            }
+            cmd.addAll(additionalVmArgs);
+
+            final String[] mainCommand = System.getProperty("sun.java.command").split(" ");
+            if (mainCommand[0].endsWith(".jar")) {
+                cmd.add("-jar");
+                cmd.add(new File(mainCommand[0]).getPath());
+            } else {
+                cmd.add("-cp");
+                cmd.add(System.getProperty("java.class.path"));
+                cmd.add(mainCommand[0]);
+            }
+            cmd.addAll(args);
+
+            return new ProcessBuilder(cmd).inheritIO().start();
+        } catch (final IOException ex) {
+            throw new ScriptException("Failed to launch the app in the background.", ex);
+        }
+    }
+
+    private boolean isSameSystemProperty(final String arg1, final String arg2) {
+        return arg1.startsWith("-D") && arg2.startsWith("-D")
+                && StringUtils.substringBefore(arg1, "=").equals(StringUtils.substringBefore(arg2, "="));
+    }
+
     @Override
     public int launchAppInternally(final String[] args) {
         final ArrayList<String> options = new ArrayList<>(Constants.DEFAULT_CUCUMBER_OPTIONS);
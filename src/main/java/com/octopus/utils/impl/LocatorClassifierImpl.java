@@ -0,0 +1,108 @@
+package com.octopus.utils.impl;
+
+import com.octopus.utils.LocatorCandidate;
+import com.octopus.utils.LocatorClassification;
+import com.octopus.utils.LocatorClassifier;
+import com.octopus.utils.LocatorStrategy;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * A locator classifier that caches the classification of each locator. The classifier state is static, so every
+ * SimpleByImpl instance shares the same classifications and counters.
+ * <p>
+ * The rules only change the order the strategies are tried in, so any locator that resolved before still resolves.
+ * The one strategy removed is one Selenium rejects outright:
+ * <ul>
+ *     <li>Locators starting with "/", "./" or "(" are tried as XPaths first.</li>
+ *     <li>Locators without a "/" or "(" are tried as XPaths last, as they can only select the root element.</li>
+ *     <li>Locators with whitespace are tried as ids last, and are not class names, as Selenium does not permit
+ *     compound class names.</li>
+ *     <li>Locators with CSS selector syntax like ".", "#", "[", ">" or ":" are tried as CSS selectors first.</li>
+ *     <li>Locators with an id=, xpath=, css=, class=, link= or name= prefix are tried with that strategy and the
+ *     prefix removed first, and then as they were written.</li>
+ * </ul>
+ */
+public class LocatorClassifierImpl implements LocatorClassifier {
+    private static final Map<String, LocatorStrategy> PREFIXES = Map.of(
+            "id=", LocatorStrategy.ID,
+            "xpath=", LocatorStrategy.XPATH,
+            "css=", LocatorStrategy.CSS_SELECTOR,
+            "class=", LocatorStrategy.CLASS_NAME,
+            "link=", LocatorStrategy.LINK_TEXT,
+            "name=", LocatorStrategy.NAME);
+    private static final String CSS_SYNTAX = ".#[]>:*+~";
+    private static final Map<String, LocatorClassification> CLASSIFICATIONS = new ConcurrentHashMap<>();
+    private static final Map<LocatorStrategy, AtomicLong> ATTEMPTS = new EnumMap<>(Arrays.stream(LocatorStrategy.values())
+            .collect(Collectors.toMap(strategy -> strategy, strategy -> new AtomicLong())));
+    private static final AtomicLong CLASSIFIED = new AtomicLong();
+    private static final AtomicLong PRUNED = new AtomicLong();
+
+    @Override
+    public LocatorClassification classify(final String locator) {
+        final LocatorClassification classification = CLASSIFICATIONS.computeIfAbsent(locator, this::buildClassification);
+        CLASSIFIED.incrementAndGet();
+        PRUNED.addAndGet(LocatorStrategy.values().length - classification.getStrategies().stream().distinct().count());
+        return classification;
+    }
+
+    @Override
+    public void recordAttempt(final LocatorStrategy strategy) {
+        ATTEMPTS.get(strategy).incrementAndGet();
+    }
+
+    @Override
+    public String getStatistics() {
+        return "Locator classifier: " + CLASSIFIED.get() + " lookups, "
+                + PRUNED.get() + " strategies pruned, attempts "
+                + ATTEMPTS.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue().get())
+                .collect(Collectors.joining(" "));
+    }
+
+    private LocatorClassification buildClassification(final String locator) {
+        final List<LocatorCandidate> candidates = new ArrayList<>();
+        PREFIXES.entrySet().stream()
+                .filter(prefix -> locator.startsWith(prefix.getKey()) && locator.length() > prefix.getKey().length())
+                .findFirst()
+                .ifPresent(prefix -> candidates.add(
+                        new LocatorCandidate(prefix.getValue(), locator.substring(prefix.getKey().length()))));
+
+        final String trimmed = locator.trim();
+        final List<LocatorStrategy> strategies = new ArrayList<>(Arrays.asList(LocatorStrategy.values()));
+        if (!StringUtils.containsAny(locator, "/(")) {
+            moveToEnd(strategies, LocatorStrategy.XPATH);
+        }
+        if (StringUtils.containsWhitespace(trimmed)) {
+            moveToEnd(strategies, LocatorStrategy.ID);
+            strategies.remove(LocatorStrategy.CLASS_NAME);
+        }
+        if (StringUtils.containsAny(locator, CSS_SYNTAX)) {
+            moveToStart(strategies, LocatorStrategy.CSS_SELECTOR);
+        }
+        if (trimmed.startsWith("/") || trimmed.startsWith("./") || trimmed.startsWith("(")) {
+            moveToStart(strategies, LocatorStrategy.XPATH);
+        }
+
+        strategies.forEach(strategy -> candidates.add(new LocatorCandidate(strategy, locator)));
+        return new LocatorClassification(candidates);
+    }
+
+    private static void moveToStart(final List<LocatorStrategy> strategies, final LocatorStrategy strategy) {
+        strategies.remove(strategy);
+        strategies.add(0, strategy);
+    }
+
+    private static void moveToEnd(final List<LocatorStrategy> strategies, final LocatorStrategy strategy) {
+        strategies.remove(strategy);
+        strategies.add(strategy);
+    }
+}
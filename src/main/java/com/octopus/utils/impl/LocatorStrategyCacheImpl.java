@@ -0,0 +1,123 @@
+package com.octopus.utils.impl;
+
+import com.octopus.Constants;
+import com.octopus.utils.LocatorStrategy;
+import com.octopus.utils.LocatorStrategyCache;
+import com.octopus.utils.SystemPropertyUtils;
+import io.vavr.control.Try;
+import org.apache.commons.lang3.EnumUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * A locator strategy cache whose state is static, so every SimpleByImpl instance shares the same strategies.
+ * Strategies are keyed by the locator, or by the URL pattern and the locator if the locatorStrategyCacheByUrl
+ * system property is set. URL patterns drop the query string and fragment, and replace numeric and UUID path
+ * segments with a wildcard, so pages like /orders/123 and /orders/456 share their strategies.
+ */
+public class LocatorStrategyCacheImpl implements LocatorStrategyCache {
+    private static final Logger LOGGER = Logger.getLogger(LocatorStrategyCacheImpl.class.toString());
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    private static final Pattern ID_PATH_SEGMENT =
+            Pattern.compile("/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+    private static final String KEY_SEPARATOR = "\t";
+    private static final Map<String, LocatorStrategy> STRATEGIES = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static volatile boolean loaded = false;
+
+    @Override
+    public Optional<LocatorStrategy> getStrategy(final WebDriver webDriver, final String locator) {
+        load();
+        return Optional.ofNullable(STRATEGIES.get(getKey(webDriver, locator)));
+    }
+
+    @Override
+    public void recordStrategy(final WebDriver webDriver, final String locator, final LocatorStrategy strategy, final boolean hit) {
+        (hit ? HITS : MISSES).incrementAndGet();
+        if (!hit) {
+            STRATEGIES.put(getKey(webDriver, locator), strategy);
+        }
+    }
+
+    @Override
+    public void save() {
+        final String file = SYSTEM_PROPERTY_UTILS.getPropertyEmptyAsNull(Constants.LOCATOR_STRATEGY_CACHE_FILE);
+        if (file == null || STRATEGIES.isEmpty()) {
+            return;
+        }
+
+        final Properties properties = new Properties();
+        STRATEGIES.forEach((key, strategy) -> properties.setProperty(key, strategy.name()));
+        Try.run(() -> {
+            try (Writer writer = Files.newBufferedWriter(new File(file).toPath(), StandardCharsets.UTF_8)) {
+                properties.store(writer, "Locator strategies");
+            }
+        }).onFailure(ex -> LOGGER.warning("Failed to save the locator strategy cache to " + file + ": " + ex));
+    }
+
+    @Override
+    public String getStatistics() {
+        final long total = HITS.get() + MISSES.get();
+        return "Locator strategy cache: " + HITS.get() + " hits, " + MISSES.get() + " misses, "
+                + (total == 0 ? 0 : HITS.get() * 100 / total) + "% hit rate, "
+                + STRATEGIES.size() + " locators";
+    }
+
+    private String getKey(final WebDriver webDriver, final String locator) {
+        if (!SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.LOCATOR_STRATEGY_CACHE_BY_URL, false)) {
+            return locator;
+        }
+
+        final String url = Try.of(webDriver::getCurrentUrl).getOrElse("");
+        final String urlPattern = ID_PATH_SEGMENT
+                .matcher(StringUtils.substringBefore(StringUtils.substringBefore(url, "#"), "?"))
+                .replaceAll("/*");
+        return urlPattern + KEY_SEPARATOR + locator;
+    }
+
+    /**
+     * Load any strategies saved by a previous run.
+     */
+    private static void load() {
+        if (loaded) {
+            return;
+        }
+
+        synchronized (STRATEGIES) {
+            if (loaded) {
+                return;
+            }
+            loaded = true;
+
+            final String file = SYSTEM_PROPERTY_UTILS.getPropertyEmptyAsNull(Constants.LOCATOR_STRATEGY_CACHE_FILE);
+            if (file == null || !new File(file).exists()) {
+                return;
+            }
+
+            final Properties properties = new Properties();
+            Try.run(() -> {
+                try (Reader reader = Files.newBufferedReader(new File(file).toPath(), StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            }).onFailure(ex -> LOGGER.warning("Failed to load the locator strategy cache from " + file + ": " + ex));
+
+            properties.stringPropertyNames().forEach(key -> Optional
+                    .ofNullable(EnumUtils.getEnum(LocatorStrategy.class, properties.getProperty(key)))
+                    .ifPresent(strategy -> STRATEGIES.putIfAbsent(key, strategy)));
+        }
+    }
+}
@@ -1,36 +1,92 @@
 package com.octopus.utils.impl;
 
 import com.octopus.Constants;
+import com.octopus.utils.Configuration;
+import com.octopus.utils.ConfigurationService;
+import com.octopus.utils.ElementGeometry;
+import com.octopus.utils.ElementGeometryService;
 import com.octopus.utils.GetElement;
 import com.octopus.utils.MouseMovementUtils;
 import com.octopus.utils.RetryService;
-import com.octopus.utils.SystemPropertyUtils;
+import io.vavr.control.Try;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import java.util.logging.Logger;
 
 import java.awt.*;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Implementation of MouseMovementUtils
+ * Implementation of MouseMovementUtils. There is only one mouse cursor, so all movements are queued on a single
+ * animation thread that reuses one Robot. The number of steps is capped at the screen recording frame rate, as
+ * smaller steps would never appear in the recording.
  */
 public class MouseMovementUtilsImpl implements MouseMovementUtils {
     private static final Logger LOGGER = Logger.getLogger(MouseMovementUtilsImpl.class.toString());
 
-    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
     private static final RetryService RETRY_SERVICE = new RetryServiceImpl();
+    private static final ElementGeometryService ELEMENT_GEOMETRY_SERVICE = new ElementGeometryServiceImpl();
+    /**
+     * How long to wait for a queued movement to complete before giving up on it.
+     */
+    private static final long GLIDE_TIMEOUT = 10000;
+    private static final ExecutorService ANIMATION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "mouse-glide");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * The last movement queued by each thread. The executor runs movements in order, so once this completes
+     * every earlier movement from the thread has completed too.
+     */
+    private static final ThreadLocal<Future<?>> PENDING_GLIDE =
+            ThreadLocal.withInitial(() -> CompletableFuture.completedFuture(null));
+    /**
+     * The Robot, which is only ever accessed from the animation thread.
+     */
+    private static Robot robot;
 
     @Override
     public void mouseGlide(final int x1, final int y1, final int x2, final int y2, final int time, final int steps) {
+        queueGlide(() -> glide(x1, y1, x2, y2, time, steps));
+    }
+
+    @Override
+    public void mouseGlide(final int x2, final int y2, final int time, final int steps) {
+        // The start position is read when the movement runs, after any earlier movement has finished
+        queueGlide(() -> Optional.ofNullable(MouseInfo.getPointerInfo())
+                .map(x -> x.getLocation())
+                .ifPresent(l -> glide(l.x, l.y, x2, y2, time, steps)));
+    }
+
+    @Override
+    public void awaitGlide() {
+        Try.run(() -> PENDING_GLIDE.get().get(GLIDE_TIMEOUT, TimeUnit.MILLISECONDS))
+                .onFailure(ex -> LOGGER.warning("Gave up waiting for the mouse cursor to move: " + ex));
+    }
+
+    private void queueGlide(final Runnable glide) {
+        PENDING_GLIDE.set(ANIMATION_EXECUTOR.submit(glide));
+    }
+
+    private void glide(final int x1, final int y1, final int x2, final int y2, final int time, final int steps) {
         try {
-            final Robot r = new Robot();
+            if (robot == null) {
+                robot = new Robot();
+            }
+            final Robot r = robot;
 
+            final int fps = CONFIGURATION_SERVICE.getConfiguration().getScreenRecordingMouseFps();
             final double dist = Math.sqrt(Math.pow(x2 - x1, 2) + Math.pow(y2 - y1, 2));
-            final double fixedSteps = Math.min(dist, steps);
+            final double fixedSteps = Math.min(dist, Math.min(steps, Math.max(1, time * fps / 1000)));
 
             final double dx = (x2 - x1) / (fixedSteps);
             final double dy = (y2 - y1) / (fixedSteps);
@@ -44,13 +100,6 @@ public class MouseMovementUtilsImpl implements MouseMovementUtils {
         }
     }
 
-    @Override
-    public void mouseGlide(final int x2, final int y2, final int time, final int steps) {
-        Optional.ofNullable(MouseInfo.getPointerInfo())
-                .map(x -> x.getLocation())
-                .ifPresent(l -> mouseGlide(l.x, l.y, x2, y2, time, steps));
-    }
-
     @Override
     public void mouseGlide(
             final WebDriver driver,
@@ -62,18 +111,12 @@ public class MouseMovementUtilsImpl implements MouseMovementUtils {
 
         checkNotNull(element);
 
-        final boolean moveMouseCursor =
-                SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(
-                        Constants.MOVE_CURSOR_TO_ELEMENT, false);
-
-        final int verticalOffset =
-                SYSTEM_PROPERTY_UTILS.getPropertyAsInt(
-                        Constants.MOUSE_MOVE_VERTICAL_OFFSET, 0);
+        final Configuration configuration = CONFIGURATION_SERVICE.getConfiguration();
+        final int verticalOffset = configuration.getMouseMoveVerticalOffset();
 
-        if (moveMouseCursor) {
+        if (configuration.isMoveCursorToElement()) {
 
-            final float zoom = SYSTEM_PROPERTY_UTILS.getPropertyAsFloat(
-                    Constants.SCREEN_ZOOM_FACTOR, 1.0f);
+            final float zoom = configuration.getScreenZoomFactor();
 
             final Dimension d = Toolkit.getDefaultToolkit().getScreenSize();
 
@@ -82,23 +125,12 @@ public class MouseMovementUtilsImpl implements MouseMovementUtils {
                 The element reference of <reference> is stale; either the element is no longer attached to the DOM, it is not in the current frame context, or the document has been refreshed.
                 We retry here to allow the movement to complete if the source element disappears.
              */
-            final Long[] rect = RETRY_SERVICE.getTemplate()
-                    .execute(context -> {
-                        final WebElement webElement = element.getElement();
-                        final Long top = (Long) javascriptExecutor.executeScript(
-                                "return Math.floor(arguments[0].getBoundingClientRect().top);", webElement);
-                        final Long left = (Long) javascriptExecutor.executeScript(
-                                "return Math.floor(arguments[0].getBoundingClientRect().left);", webElement);
-                        final Long height = (Long) javascriptExecutor.executeScript(
-                                "return Math.floor(arguments[0].getBoundingClientRect().height);", webElement);
-                        final Long width = (Long) javascriptExecutor.executeScript(
-                                "return Math.floor(arguments[0].getBoundingClientRect().width);", webElement);
-                        return new Long[]{left, top, width, height};
-                    });
+            final ElementGeometry geometry = RETRY_SERVICE.getTemplate()
+                    .execute(context -> ELEMENT_GEOMETRY_SERVICE.getGeometry(javascriptExecutor, element.getElement()));
 
             mouseGlide(
-                    Math.min(d.width - 1, (int) ((rect[0] + rect[2] / 2) * zoom)),
-                    Math.min(d.height - 1, (int) ((rect[1] + verticalOffset + rect[3] / 2) * zoom)),
+                    Math.min(d.width - 1, (int) (Math.floor(geometry.getCenterX()) * zoom)),
+                    Math.min(d.height - 1, (int) ((Math.floor(geometry.getCenterY()) + verticalOffset) * zoom)),
                     Constants.MOUSE_MOVE_TIME,
                     Constants.MOUSE_MOVE_STEPS);
         }
@@ -0,0 +1,75 @@
+package com.octopus.utils.impl;
+
+import com.octopus.utils.PollingPolicy;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A polling policy that polls quickly at first, and then backs off exponentially up to a maximum interval. Each
+ * interval is randomly adjusted by the jitter so browsers started at the same time don't poll in lock step.
+ */
+public class PollingPolicyImpl implements PollingPolicy {
+    private final long initialInterval;
+    private final double multiplier;
+    private final long maxInterval;
+    private final double jitter;
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong satisfiedWaits = new AtomicLong();
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong satisfiedTime = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param initialInterval The interval before the second poll, in milliseconds
+     * @param multiplier      The amount each interval is multiplied by
+     * @param maxInterval     The maximum interval, in milliseconds
+     * @param jitter          The fraction, between 0 and 1, each interval can be randomly adjusted by
+     */
+    public PollingPolicyImpl(final long initialInterval, final double multiplier, final long maxInterval, final double jitter) {
+        checkArgument(initialInterval > 0, "initialInterval must be greater than 0");
+        checkArgument(multiplier >= 1, "multiplier must be at least 1");
+        checkArgument(maxInterval >= initialInterval, "maxInterval must be at least initialInterval");
+        checkArgument(jitter >= 0 && jitter < 1, "jitter must be between 0 and 1");
+
+        this.initialInterval = initialInterval;
+        this.multiplier = multiplier;
+        this.maxInterval = maxInterval;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public long getIntervalMillis(final int poll) {
+        final double interval = Math.min(
+                initialInterval * Math.pow(multiplier, Math.max(poll - 1, 0)),
+                maxInterval);
+        final double jittered = jitter == 0
+                ? interval
+                : interval * (1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter));
+        return Math.max(1, Math.min(Math.round(jittered), maxInterval));
+    }
+
+    @Override
+    public void recordWait(final int polls, final long elapsed, final boolean satisfied) {
+        waits.incrementAndGet();
+        this.polls.addAndGet(polls);
+        if (satisfied) {
+            satisfiedWaits.incrementAndGet();
+            satisfiedTime.addAndGet(elapsed);
+        }
+    }
+
+    @Override
+    public String getStatistics() {
+        return String.format(Locale.ROOT,
+                "%d waits, %d satisfied, %.1f polls per wait, %dms average time to satisfy",
+                waits.get(),
+                satisfiedWaits.get(),
+                waits.get() == 0 ? 0.0 : (double) polls.get() / waits.get(),
+                satisfiedWaits.get() == 0 ? 0 : satisfiedTime.get() / satisfiedWaits.get());
+    }
+}
@@ -0,0 +1,100 @@
+package com.octopus.utils.impl;
+
+import com.octopus.Constants;
+import com.octopus.utils.PollingPolicy;
+import com.octopus.utils.PollingPolicyService;
+import com.octopus.utils.SystemPropertyUtils;
+import io.vavr.control.Try;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * A polling policy service that creates one policy per browser name, such as "chrome" or "firefox". Each setting
+ * can be defined for a single browser by suffixing the system property with the browser name, for example
+ * pollingMaxInterval.firefox, falling back to the unsuffixed property and then the default.
+ */
+public class PollingPolicyServiceImpl implements PollingPolicyService {
+    private static final Logger LOGGER = Logger.getLogger(PollingPolicyServiceImpl.class.toString());
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    private static final long DEFAULT_INITIAL_INTERVAL = 25;
+    private static final float DEFAULT_MULTIPLIER = 2;
+    private static final long DEFAULT_MAX_INTERVAL = 1000;
+    private static final float DEFAULT_JITTER = 0.2f;
+    private static final String UNKNOWN_BROWSER = "unknown";
+    /**
+     * The policies, keyed by browser name.
+     */
+    private static final Map<String, PollingPolicy> POLICIES = new ConcurrentHashMap<>();
+
+    @Override
+    public PollingPolicy getPolicy(final WebDriver webDriver) {
+        final String browserName = webDriver instanceof HasCapabilities
+                ? Try.of(() -> ((HasCapabilities) webDriver).getCapabilities().getBrowserName())
+                .filter(name -> name != null && !name.isBlank())
+                .getOrElse(UNKNOWN_BROWSER)
+                : UNKNOWN_BROWSER;
+        return POLICIES.computeIfAbsent(browserName, this::buildPolicy);
+    }
+
+    @Override
+    public String getStatistics() {
+        return "Polling: " + POLICIES.entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue().getStatistics())
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Invalid settings, including values that don't parse as numbers, fall back to the defaults with a warning,
+     * as the policy is built on the first element lookup and failing there would fail every lookup in the run.
+     */
+    private PollingPolicy buildPolicy(final String browserName) {
+        final long initialInterval = validate(
+                getLong(Constants.POLLING_INITIAL_INTERVAL, browserName, DEFAULT_INITIAL_INTERVAL),
+                value -> value > 0, DEFAULT_INITIAL_INTERVAL, Constants.POLLING_INITIAL_INTERVAL, browserName);
+        final float multiplier = validate(
+                getFloat(Constants.POLLING_MULTIPLIER, browserName, DEFAULT_MULTIPLIER),
+                value -> value >= 1, DEFAULT_MULTIPLIER, Constants.POLLING_MULTIPLIER, browserName);
+        final long maxInterval = validate(
+                getLong(Constants.POLLING_MAX_INTERVAL, browserName, DEFAULT_MAX_INTERVAL),
+                value -> value >= initialInterval, Math.max(DEFAULT_MAX_INTERVAL, initialInterval),
+                Constants.POLLING_MAX_INTERVAL, browserName);
+        final float jitter = validate(
+                getFloat(Constants.POLLING_JITTER, browserName, DEFAULT_JITTER),
+                value -> value >= 0 && value < 1, DEFAULT_JITTER, Constants.POLLING_JITTER, browserName);
+
+        return new PollingPolicyImpl(initialInterval, multiplier, maxInterval, jitter);
+    }
+
+    private <T> T validate(
+            final T value,
+            final Predicate<T> valid,
+            final T defaultValue,
+            final String name,
+            final String browserName) {
+        if (valid.test(value)) {
+            return value;
+        }
+
+        LOGGER.warning("The " + name + " setting for " + browserName + " resolved to the invalid value " + value
+                + ", so the value " + defaultValue + " is used instead");
+        return defaultValue;
+    }
+
+    private long getLong(final String name, final String browserName, final long defaultValue) {
+        return SYSTEM_PROPERTY_UTILS.getPropertyAsLong(
+                name + "." + browserName,
+                SYSTEM_PROPERTY_UTILS.getPropertyAsLong(name, defaultValue));
+    }
+
+    private float getFloat(final String name, final String browserName, final float defaultValue) {
+        return SYSTEM_PROPERTY_UTILS.getPropertyAsFloat(
+                name + "." + browserName,
+                SYSTEM_PROPERTY_UTILS.getPropertyAsFloat(name, defaultValue));
+    }
+}
@@ -0,0 +1,190 @@
+package com.octopus.utils.impl;
+
+import com.octopus.Constants;
+import com.octopus.exceptions.BrowserException;
+import com.octopus.utils.ProfileTemplateService;
+import com.octopus.utils.SystemPropertyUtils;
+import io.vavr.control.Try;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * A profile template service that keeps one template directory per template name for the life of the JVM.
+ * <p>
+ * On Linux templates are cloned with "cp --reflink=auto", which makes copy-on-write copies on file systems that
+ * support them and falls back to a regular copy otherwise. Elsewhere the template is copied file by file, with the
+ * immutable LevelDB table files hard linked rather than copied. Every other file may be modified in place by the
+ * browser (SQLite databases and their journals in particular), so those are always copied to keep the template clean.
+ */
+public class ProfileTemplateServiceImpl implements ProfileTemplateService {
+    private static final Logger LOGGER = Logger.getLogger(ProfileTemplateServiceImpl.class.toString());
+    private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * The directory holding the templates. It is kept apart from the other temporary files so cleaning the temp
+     * directory between Lambda invocations doesn't force the templates to be rebuilt.
+     */
+    private static final File TEMPLATE_DIRECTORY = new File(System.getProperty("java.io.tmpdir"), "webdriver-profile-templates");
+    /**
+     * The template directories, keyed by template name. Each template is built outside the map's lock, so a slow
+     * build only holds up the callers waiting for the same template.
+     */
+    private static final Map<String, CompletableFuture<File>> TEMPLATES = new ConcurrentHashMap<>();
+    /**
+     * The maximum time to wait for cp to clone a template, in seconds.
+     */
+    private static final long COPY_TIMEOUT = 60;
+    /**
+     * Lock files left behind by Chrome, which must not be cloned into a new profile.
+     */
+    private static final Set<String> EXCLUDED_FILES = Set.of(
+            "SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile", "parent.lock");
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> TEMPLATES.values()
+                .forEach(future -> future.thenAccept(FileUtils::deleteQuietly))));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.PROFILE_TEMPLATES, false);
+    }
+
+    @Override
+    public File getTemplateDirectory() {
+        return TEMPLATE_DIRECTORY;
+    }
+
+    @Override
+    public File cloneTemplate(final String name, final Consumer<File> templateBuilder) {
+        final File template = getTemplate(name, templateBuilder);
+
+        try {
+            final long start = System.currentTimeMillis();
+            final File clone = Files.createTempDirectory("user-data").toFile();
+            if (OSValidator.isUnix() && copyOnWrite(template, clone)) {
+                EXCLUDED_FILES.forEach(file -> FileUtils.deleteQuietly(new File(clone, file)));
+            } else {
+                copyTree(template.toPath(), clone.toPath());
+            }
+            LOGGER.fine("Cloned the " + name + " profile template in " + (System.currentTimeMillis() - start) + "ms");
+            return clone;
+        } catch (final IOException ex) {
+            throw new BrowserException("Failed to clone the " + name + " profile template", ex);
+        }
+    }
+
+    @Override
+    public void warmProfile(final WebDriver webDriver) {
+        Arrays.stream(SYSTEM_PROPERTY_UTILS.getPropertyNullAsEmpty(Constants.PROFILE_TEMPLATE_WARM_URLS).split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .forEach(url -> Try.run(() -> webDriver.get(url))
+                        .onFailure(ex -> LOGGER.warning("Failed to load " + url + " into the profile template: " + ex)));
+    }
+
+    private File getTemplate(final String name, final Consumer<File> templateBuilder) {
+        while (true) {
+            final CompletableFuture<File> future = new CompletableFuture<>();
+            final CompletableFuture<File> existing = TEMPLATES.putIfAbsent(name, future);
+            if (existing == null) {
+                try {
+                    final File template = buildTemplate(name, templateBuilder);
+                    future.complete(template);
+                    return template;
+                } catch (final RuntimeException ex) {
+                    // Remove the failed build so the next caller tries again
+                    TEMPLATES.remove(name, future);
+                    future.completeExceptionally(ex);
+                    throw ex;
+                }
+            }
+
+            final File template = Try.of(existing::join)
+                    .getOrElseThrow(ex -> new BrowserException("Failed to build the " + name + " profile template", ex));
+            if (template.isDirectory()) {
+                return template;
+            }
+
+            // The template was removed by something cleaning the temp directory, so build it again
+            TEMPLATES.remove(name, existing);
+        }
+    }
+
+    private File buildTemplate(final String name, final Consumer<File> templateBuilder) {
+        final long start = System.currentTimeMillis();
+        final File template = Try.of(() -> Files.createDirectories(TEMPLATE_DIRECTORY.toPath()))
+                .mapTry(directory -> Files.createTempDirectory(directory, "profile-template").toFile())
+                .getOrElseThrow(ex -> new BrowserException("Failed to create the profile template directory", ex));
+
+        try {
+            templateBuilder.accept(template);
+        } catch (final RuntimeException ex) {
+            FileUtils.deleteQuietly(template);
+            throw ex;
+        }
+
+        LOGGER.info("Built the " + name + " profile template in " + (System.currentTimeMillis() - start) + "ms");
+        return template;
+    }
+
+    /**
+     * Copy the template with cp, which shares the file blocks on file systems that support it. The output is
+     * discarded, as an unread pipe could fill up and block cp, and a copy that takes too long falls back to
+     * copying the files in Java.
+     */
+    private boolean copyOnWrite(final File template, final File clone) {
+        return Try.of(() -> new ProcessBuilder(
+                "cp", "-a", "--reflink=auto", template.getAbsolutePath() + "/.", clone.getAbsolutePath())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start())
+                .mapTry(process -> {
+                    if (!process.waitFor(COPY_TIMEOUT, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                        LOGGER.warning("Timed out copying the profile template with cp");
+                        return false;
+                    }
+                    return process.exitValue() == 0;
+                })
+                .getOrElse(false);
+    }
+
+    private void copyTree(final Path source, final Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (final Path path : (Iterable<Path>) paths::iterator) {
+                final Path destination = target.resolve(source.relativize(path).toString());
+                if (EXCLUDED_FILES.contains(path.getFileName().toString())) {
+                    continue;
+                }
+
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(destination);
+                } else if (path.getFileName().toString().endsWith(".ldb")) {
+                    // LevelDB tables are never modified once written, so they can be shared
+                    final boolean linked = Try.run(() -> Files.createLink(destination, path)).isSuccess();
+                    if (!linked) {
+                        Files.copy(path, destination, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } else {
+                    Files.copy(path, destination, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+}
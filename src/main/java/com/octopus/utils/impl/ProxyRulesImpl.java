@@ -0,0 +1,280 @@
+package com.octopus.utils.impl;
+
+import com.octopus.utils.ProxyRule;
+import com.octopus.utils.ProxyRules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A rule table that compiles each regular expression once, when the rule is added. The rules are indexed by the kind of
+ * expression they use:
+ * <ul>
+ *     <li>Expressions without regular expression syntax, like "https://example\.org/", are looked up in a hash
+ *     map of the exact URLs.</li>
+ *     <li>Expressions that are literal text followed by ".*", like "https://example\.org/api/.*", are looked up
+ *     in a trie of the URL prefixes.</li>
+ *     <li>Any other expression is matched as a regular expression.</li>
+ * </ul>
+ * The index is immutable and is rebuilt whenever a rule is added or removed, so the proxy threads read the rules
+ * without locking.
+ *
+ * @param <T> The action taken when a rule matches
+ */
+public class ProxyRulesImpl<T> implements ProxyRules<T> {
+    private static final String REGEX_SYNTAX = ".[]{}()*+?^$|";
+
+    private final String name;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong lookupNanos = new AtomicLong();
+    private final AtomicLong maxLookupNanos = new AtomicLong();
+    private volatile List<ProxyRule<T>> rules = List.of();
+    /**
+     * The compiled expressions of the current rules, so rebuilding the index does not compile them again.
+     */
+    private final Map<String, Pattern> patterns = new HashMap<>();
+    private volatile RuleIndex<T> index = new RuleIndex<>(List.of(), Pattern::compile);
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the table used in the statistics
+     */
+    public ProxyRulesImpl(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public synchronized void addRule(final String url, final T action) {
+        final List<ProxyRule<T>> newRules = new ArrayList<>(rules);
+        newRules.add(new ProxyRule<>(url, action, sequence.incrementAndGet()));
+        publish(newRules);
+    }
+
+    @Override
+    public synchronized int removeRules(final String url) {
+        final List<ProxyRule<T>> newRules = rules.stream()
+                .filter(rule -> !rule.getUrl().equals(url))
+                .collect(Collectors.toList());
+        final int removed = rules.size() - newRules.size();
+        if (removed != 0) {
+            publish(newRules);
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized void clear() {
+        publish(List.of());
+    }
+
+    @Override
+    public List<ProxyRule<T>> getRules() {
+        return rules;
+    }
+
+    @Override
+    public Optional<ProxyRule<T>> getFirstMatch(final String url) {
+        return getMatch(url, false);
+    }
+
+    @Override
+    public Optional<ProxyRule<T>> getLastMatch(final String url) {
+        return getMatch(url, true);
+    }
+
+    @Override
+    public String getStatistics() {
+        final long count = Math.max(lookups.get(), 1);
+        return name + ": " + lookups.get() + " lookups, "
+                + "average lookup " + TimeUnit.NANOSECONDS.toMicros(lookupNanos.get() / count) + "us, "
+                + "max lookup " + TimeUnit.NANOSECONDS.toMicros(maxLookupNanos.get()) + "us"
+                + rules.stream()
+                .map(rule -> "\n  " + rule.getUrl() + " " + rule.getHits() + " hits")
+                .collect(Collectors.joining());
+    }
+
+    private void publish(final List<ProxyRule<T>> newRules) {
+        // Building the index compiles any new expression, so an invalid expression leaves the table unchanged
+        final RuleIndex<T> newIndex = new RuleIndex<>(newRules, this::getPattern);
+        rules = Collections.unmodifiableList(newRules);
+        index = newIndex;
+        patterns.keySet().retainAll(newRules.stream().map(ProxyRule::getUrl).collect(Collectors.toSet()));
+    }
+
+    private Pattern getPattern(final String url) {
+        return patterns.computeIfAbsent(url, Pattern::compile);
+    }
+
+    private Optional<ProxyRule<T>> getMatch(final String url, final boolean newest) {
+        final RuleIndex<T> current = index;
+        if (current.isEmpty() || url == null) {
+            return Optional.empty();
+        }
+
+        final long start = System.nanoTime();
+        final Optional<ProxyRule<T>> match = current.match(url, newest);
+        final long elapsed = System.nanoTime() - start;
+
+        lookups.incrementAndGet();
+        lookupNanos.addAndGet(elapsed);
+        maxLookupNanos.accumulateAndGet(elapsed, Math::max);
+        match.ifPresent(ProxyRule::recordHit);
+        return match;
+    }
+
+    /**
+     * @param url The regular expression
+     * @return The length of the expression without an unescaped trailing ".*" or ".*?", or -1 if it has neither
+     */
+    static int getPrefixLength(final String url) {
+        final int length = url.endsWith(".*") ? url.length() - 2 : (url.endsWith(".*?") ? url.length() - 3 : -1);
+        if (length == -1) {
+            return -1;
+        }
+
+        // An odd number of backslashes escapes the dot
+        int backslashes = 0;
+        while (length - backslashes > 0 && url.charAt(length - backslashes - 1) == '\\') {
+            ++backslashes;
+        }
+        return backslashes % 2 == 0 ? length : -1;
+    }
+
+    /**
+     * Work out the literal text matched by an expression.
+     *
+     * @param url    The regular expression
+     * @param prefix true if the expression is the start of a prefix, which can not end with the "$" anchor
+     * @return The literal text, or null if the expression must be matched as a regular expression
+     */
+    static String getLiteral(final String url, final boolean prefix) {
+        final StringBuilder literal = new StringBuilder(url.length());
+        final int start = url.startsWith("^") ? 1 : 0;
+        for (int i = start; i < url.length(); ++i) {
+            final char c = url.charAt(i);
+            if (c == '\\') {
+                // Escaped punctuation is literal, while escaped letters and digits are classes or references
+                if (i + 1 >= url.length() || Character.isLetterOrDigit(url.charAt(i + 1))) {
+                    return null;
+                }
+                literal.append(url.charAt(++i));
+            } else if (REGEX_SYNTAX.indexOf(c) == -1) {
+                literal.append(c);
+            } else if (c == '$' && !prefix && i == url.length() - 1) {
+                return literal.toString();
+            } else {
+                return null;
+            }
+        }
+        return literal.toString();
+    }
+
+    /**
+     * An immutable index of the rules.
+     */
+    private static final class RuleIndex<T> {
+        private final Map<String, List<ProxyRule<T>>> exact = new HashMap<>();
+        private final TrieNode<T> prefixes = new TrieNode<>();
+        private final List<ProxyRule<T>> regexRules = new ArrayList<>();
+        private final List<Pattern> regexPatterns = new ArrayList<>();
+
+        RuleIndex(final List<ProxyRule<T>> rules, final Function<String, Pattern> compiler) {
+            rules.forEach(rule -> add(rule, compiler));
+        }
+
+        private void add(final ProxyRule<T> rule, final Function<String, Pattern> compiler) {
+            final int prefixLength = getPrefixLength(rule.getUrl());
+            final String literal = prefixLength == -1
+                    ? getLiteral(rule.getUrl(), false)
+                    : getLiteral(rule.getUrl().substring(0, prefixLength), true);
+            if (literal == null) {
+                regexPatterns.add(compiler.apply(rule.getUrl()));
+                regexRules.add(rule);
+            } else if (prefixLength != -1) {
+                prefixes.add(literal, rule);
+            } else {
+                exact.computeIfAbsent(literal, key -> new ArrayList<>()).add(rule);
+            }
+        }
+
+        boolean isEmpty() {
+            return exact.isEmpty() && prefixes.isEmpty() && regexRules.isEmpty();
+        }
+
+        Optional<ProxyRule<T>> match(final String url, final boolean newest) {
+            final BinaryOperator<ProxyRule<T>> preferred = (a, b) ->
+                    a == null ? b : (b == null ? a : (a.getSequence() > b.getSequence()) == newest ? a : b);
+
+            ProxyRule<T> best = null;
+            for (final ProxyRule<T> rule : exact.getOrDefault(url, List.of())) {
+                best = preferred.apply(best, rule);
+            }
+            for (final ProxyRule<T> rule : prefixes.getMatches(url)) {
+                best = preferred.apply(best, rule);
+            }
+
+            // The regex rules are in the order they were added, so stop once no later rule can be preferred
+            final int size = regexRules.size();
+            for (int i = 0; i < size; ++i) {
+                final int position = newest ? size - 1 - i : i;
+                final ProxyRule<T> rule = regexRules.get(position);
+                if (best != null && preferred.apply(best, rule) == best) {
+                    break;
+                }
+                if (regexPatterns.get(position).matcher(url).matches()) {
+                    best = rule;
+                    break;
+                }
+            }
+
+            return Optional.ofNullable(best);
+        }
+    }
+
+    /**
+     * A node in a trie of URL prefixes, holding the rules whose prefix ends at this node.
+     */
+    private static final class TrieNode<T> {
+        private final Map<Character, TrieNode<T>> children = new HashMap<>();
+        private final List<ProxyRule<T>> rules = new ArrayList<>();
+
+        void add(final String prefix, final ProxyRule<T> rule) {
+            TrieNode<T> node = this;
+            for (int i = 0; i < prefix.length(); ++i) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), key -> new TrieNode<>());
+            }
+            node.rules.add(rule);
+        }
+
+        boolean isEmpty() {
+            return children.isEmpty() && rules.isEmpty();
+        }
+
+        List<ProxyRule<T>> getMatches(final String url) {
+            List<ProxyRule<T>> matches = List.of();
+            TrieNode<T> node = this;
+            for (int i = 0; node != null; ++i) {
+                if (!node.rules.isEmpty()) {
+                    if (matches.isEmpty()) {
+                        matches = new ArrayList<>();
+                    }
+                    matches.addAll(node.rules);
+                }
+                node = i < url.length() ? node.children.get(url.charAt(i)) : null;
+            }
+            return matches;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.octopus.utils.impl;
 
+import com.octopus.utils.Deadline;
 import com.octopus.utils.RetryService;
+import org.springframework.retry.RetryContext;
 import org.springframework.retry.backoff.FixedBackOffPolicy;
 import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
@@ -20,4 +22,26 @@ public class RetryServiceImpl implements RetryService {
 
         return template;
     }
+
+    @Override
+    public RetryTemplate getTemplate(final int retries, final int backoff, final Deadline deadline) {
+        // The first attempt is always made, but no more attempts are made once the deadline has passed
+        final SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy() {
+            @Override
+            public boolean canRetry(final RetryContext context) {
+                return super.canRetry(context) && (context.getRetryCount() == 0 || !deadline.isExpired());
+            }
+        };
+        retryPolicy.setMaxAttempts(retries);
+
+        // Don't sleep past the deadline
+        final FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
+        backOffPolicy.setBackOffPeriod(Math.max(Math.min(backoff, deadline.getRemainingMillis()), 1));
+
+        final RetryTemplate template = new RetryTemplate();
+        template.setRetryPolicy(retryPolicy);
+        template.setBackOffPolicy(backOffPolicy);
+
+        return template;
+    }
 }
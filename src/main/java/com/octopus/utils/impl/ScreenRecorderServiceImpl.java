@@ -2,6 +2,7 @@ package com.octopus.utils.impl;
 
 import com.octopus.Constants;
 import com.octopus.exceptions.VideoException;
+import com.octopus.utils.ConfigurationService;
 import com.octopus.utils.ScreenRecorderService;
 import com.octopus.utils.SystemPropertyUtils;
 import org.monte.media.Format;
@@ -24,6 +25,10 @@ public class ScreenRecorderServiceImpl implements ScreenRecorderService {
      * Shared SystemPropertyUtilsImpl instance.
      */
     private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    /**
+     * Shared ConfigurationServiceImpl instance.
+     */
+    private static final ConfigurationService CONFIGURATION_SERVICE = new ConfigurationServiceImpl();
 
     /**
      * The screen recorder.
@@ -32,7 +37,7 @@ public class ScreenRecorderServiceImpl implements ScreenRecorderService {
 
     @Override
     public File start(final File file) {
-        if (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.DISABLE_VIDEO_RECORDING, false)) {
+        if (CONFIGURATION_SERVICE.getConfiguration().isDisableVideoRecording()) {
             return null;
         }
 
@@ -62,7 +67,7 @@ public class ScreenRecorderServiceImpl implements ScreenRecorderService {
                             VideoFormatKeys.KeyFrameIntervalKey, SYSTEM_PROPERTY_UTILS.getPropertyAsInt(Constants.SCREEN_RECORDING_KEYFRAME_INTERVAL, Constants.DEFAULT_SCREEN_RECORDING_KEYFRAME_INTERVAL)),
                     new Format(FormatKeys.MediaTypeKey, FormatKeys.MediaType.VIDEO,
                             FormatKeys.EncodingKey, "black",
-                            FormatKeys.FrameRateKey, Rational.valueOf(SYSTEM_PROPERTY_UTILS.getPropertyAsInt(Constants.SCREEN_RECORDING_MOUSE_FPS, Constants.DEFAULT_SCREEN_RECORDING_MOUSE_FPS))),
+                            FormatKeys.FrameRateKey, Rational.valueOf(CONFIGURATION_SERVICE.getConfiguration().getScreenRecordingMouseFps())),
                     null,
                     file);
             screenRecorder.setMaxRecordingTime(SYSTEM_PROPERTY_UTILS.getPropertyAsLong(Constants.SCREEN_RECORDING_MAX_TIME, Constants.DEFAULT_SCREEN_RECORDING_MAX_TIME));
@@ -0,0 +1,328 @@
+package com.octopus.utils.impl;
+
+import com.octopus.Constants;
+import com.octopus.exceptions.ScriptException;
+import com.octopus.utils.CucumberReportMerger;
+import com.octopus.utils.JavaLauncherUtils;
+import com.octopus.utils.ShardingService;
+import io.vavr.control.Try;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * A coordinator that hands scenario level work units to worker JVMs over a loopback socket. The protocol is line
+ * based and tab separated:
+ * <ul>
+ *     <li>The worker connects and sends READY.</li>
+ *     <li>The coordinator replies with RUN, the unit id, the feature path and line, and the JSON and JUnit report
+ *     files the worker is to write, or with DONE if there are no units left.</li>
+ *     <li>The worker runs the unit and replies with RESULT, the unit id and the Cucumber exit code, and then waits
+ *     for the next RUN or DONE.</li>
+ * </ul>
+ */
+public class ShardingServiceImpl implements ShardingService {
+    private static final Logger LOGGER = Logger.getLogger(ShardingServiceImpl.class.toString());
+    private static final JavaLauncherUtils JAVA_LAUNCHER_UTILS = new JavaLauncherUtilsImpl();
+    private static final CucumberReportMerger CUCUMBER_REPORT_MERGER = new CucumberReportMergerImpl();
+    private static final String READY = "READY";
+    private static final String RUN = "RUN";
+    private static final String RESULT = "RESULT";
+    private static final String DONE = "DONE";
+    private static final String SEPARATOR = "\t";
+    /**
+     * The Cucumber options that take a value.
+     */
+    private static final Set<String> OPTIONS_WITH_VALUES = Set.of(
+            "--glue", "-g", "--extra-glue", "--tags", "-t", "--plugin", "-p", "--add-plugin", "--name", "-n",
+            "--snippets", "--order", "--threads", "--object-factory", "--count", "--i18n");
+    /**
+     * The plugin options, which are checked for reports that write to a file.
+     */
+    private static final Set<String> PLUGIN_OPTIONS = Set.of("--plugin", "-p", "--add-plugin");
+    /**
+     * Built in Cucumber plugins that write to a file. Workers would overwrite each other's files, so these
+     * are removed from the worker arguments, and the JSON and JUnit reports are merged by the coordinator.
+     */
+    private static final Set<String> FILE_PLUGINS = Set.of(
+            "json", "junit", "html", "message", "rerun", "usage", "timeline", "testng", "pretty", "progress");
+    /**
+     * The keywords that start a scenario in an English feature file.
+     */
+    private static final String[] SCENARIO_KEYWORDS = {
+            "Scenario:", "Scenario Outline:", "Scenario Template:", "Example:"};
+
+    @Override
+    public int runCoordinator(final String[] args, final int workers) {
+        final List<String> units = getWorkUnits(args);
+        if (units.isEmpty()) {
+            throw new ScriptException("No feature files were found to split between the workers.");
+        }
+
+        final int workerCount = Math.min(workers, units.size());
+        LOGGER.info("Running " + units.size() + " work units across " + workerCount + " workers");
+
+        Path reportDir = null;
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try (ServerSocket serverSocket = new ServerSocket(0, workerCount, InetAddress.getLoopbackAddress())) {
+            reportDir = Files.createTempDirectory("cucumber-shards");
+
+            final Queue<String[]> pending = new ConcurrentLinkedQueue<>();
+            final List<File> jsonReports = new ArrayList<>();
+            final List<File> junitReports = new ArrayList<>();
+            for (int i = 0; i < units.size(); ++i) {
+                final File json = reportDir.resolve(i + ".json").toFile();
+                final File junit = reportDir.resolve(i + ".xml").toFile();
+                pending.add(new String[]{String.valueOf(i), units.get(i), json.getAbsolutePath(), junit.getAbsolutePath()});
+                jsonReports.add(json);
+                junitReports.add(junit);
+            }
+
+            final Map<String, Integer> results = new ConcurrentHashMap<>();
+            final List<Process> processes = new ArrayList<>();
+            for (int i = 0; i < workerCount; ++i) {
+                processes.add(JAVA_LAUNCHER_UTILS.launchAppInBackground(
+                        List.of("-D" + Constants.WORKER_PORT + "=" + serverSocket.getLocalPort()),
+                        List.of(args)));
+            }
+
+            // Accept connections until the workers have all exited, at which point the socket is closed
+            executor.submit(() -> {
+                while (!serverSocket.isClosed()) {
+                    final Socket socket = Try.of(serverSocket::accept).getOrNull();
+                    if (socket != null) {
+                        executor.submit(() -> serveWorker(socket, pending, results));
+                    }
+                }
+            });
+
+            for (final Process process : processes) {
+                Try.of(process::waitFor);
+            }
+            serverSocket.close();
+            // Let the connection handlers record the result of any worker that exited mid unit
+            executor.shutdown();
+            Try.of(() -> executor.awaitTermination(1, TimeUnit.MINUTES));
+
+            writeMergedReports(args, jsonReports, junitReports);
+
+            final long failed = results.values().stream().filter(r -> r != 0).count();
+            final int missing = units.size() - results.size();
+            LOGGER.info("Work units passed: " + (results.size() - failed) + ", failed: " + failed
+                    + ", not run: " + missing);
+            return failed == 0 && missing == 0 ? 0 : 1;
+        } catch (final IOException ex) {
+            throw new ScriptException("Failed to coordinate the workers.", ex);
+        } finally {
+            executor.shutdownNow();
+            if (reportDir != null) {
+                FileUtils.deleteQuietly(reportDir.toFile());
+            }
+        }
+    }
+
+    @Override
+    public int runWorker(final String[] args, final int port, final ToIntFunction<String[]> cucumberRunner) {
+        final List<String> workerArgs = getWorkerArgs(args);
+        int retValue = 0;
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            writer.println(READY);
+
+            String line;
+            while ((line = reader.readLine()) != null && line.startsWith(RUN)) {
+                final String[] message = line.split(SEPARATOR);
+                final List<String> unitArgs = new ArrayList<>(workerArgs);
+                unitArgs.add("--plugin");
+                unitArgs.add("json:" + message[3]);
+                unitArgs.add("--plugin");
+                unitArgs.add("junit:" + message[4]);
+                unitArgs.add(message[2]);
+
+                final int unitRetValue = Try.of(() -> cucumberRunner.applyAsInt(unitArgs.toArray(new String[0])))
+                        .onFailure(ex -> LOGGER.severe("Failed to run " + message[2] + ": " + ex))
+                        .getOrElse(1);
+                retValue = Math.max(retValue, unitRetValue);
+                writer.println(RESULT + SEPARATOR + message[1] + SEPARATOR + unitRetValue);
+            }
+        } catch (final IOException ex) {
+            throw new ScriptException("Failed to communicate with the coordinator.", ex);
+        }
+
+        return retValue;
+    }
+
+    private void serveWorker(final Socket socket, final Queue<String[]> pending, final Map<String, Integer> results) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            if (!READY.equals(reader.readLine())) {
+                return;
+            }
+
+            String[] unit;
+            while ((unit = pending.poll()) != null) {
+                writer.println(RUN + SEPARATOR + String.join(SEPARATOR, unit));
+                final String result = reader.readLine();
+                if (result == null) {
+                    // The worker died, so the unit it was running is treated as a failure
+                    LOGGER.severe("A worker exited while running " + unit[1]);
+                    results.put(unit[0], 1);
+                    return;
+                }
+
+                final String[] message = result.split(SEPARATOR);
+                results.put(message[1], Integer.parseInt(message[2]));
+            }
+
+            writer.println(DONE);
+        } catch (final IOException | RuntimeException ex) {
+            LOGGER.severe("Lost the connection to a worker: " + ex);
+        }
+    }
+
+    private void writeMergedReports(final String[] args, final List<File> jsonReports, final List<File> junitReports) {
+        for (final String plugin : getPlugins(args)) {
+            final String name = StringUtils.substringBefore(plugin, ":");
+            final String path = StringUtils.substringAfter(plugin, ":");
+            if (StringUtils.isBlank(path)) {
+                continue;
+            }
+
+            if ("json".equals(name)) {
+                CUCUMBER_REPORT_MERGER.mergeJsonReports(jsonReports, new File(path));
+            } else if ("junit".equals(name)) {
+                CUCUMBER_REPORT_MERGER.mergeJunitReports(junitReports, new File(path));
+            } else if (FILE_PLUGINS.contains(name)) {
+                LOGGER.warning("The " + name + " plugin is not supported when running with workers, and was ignored");
+            }
+        }
+    }
+
+    /**
+     * @return The values of any plugin options
+     */
+    private List<String> getPlugins(final String[] args) {
+        final List<String> plugins = new ArrayList<>();
+        for (int i = 0; i < args.length - 1; ++i) {
+            if (PLUGIN_OPTIONS.contains(args[i])) {
+                plugins.add(args[++i]);
+            }
+        }
+        return plugins;
+    }
+
+    /**
+     * @return The arguments passed to Cucumber by the workers, which is the original arguments without
+     * the feature paths or any plugins that write to a file
+     */
+    private List<String> getWorkerArgs(final String[] args) {
+        final List<String> workerArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; ++i) {
+            if (PLUGIN_OPTIONS.contains(args[i]) && i < args.length - 1) {
+                final String plugin = args[++i];
+                if (!FILE_PLUGINS.contains(StringUtils.substringBefore(plugin, ":")) || !plugin.contains(":")) {
+                    workerArgs.add(args[i - 1]);
+                    workerArgs.add(plugin);
+                }
+            } else if (OPTIONS_WITH_VALUES.contains(args[i]) && i < args.length - 1) {
+                workerArgs.add(args[i]);
+                workerArgs.add(args[++i]);
+            } else if (args[i].startsWith("-")) {
+                workerArgs.add(args[i]);
+            }
+        }
+        return workerArgs;
+    }
+
+    /**
+     * @return The feature paths passed in the arguments
+     */
+    private List<String> getFeaturePaths(final String[] args) {
+        final List<String> paths = new ArrayList<>();
+        for (int i = 0; i < args.length; ++i) {
+            if (OPTIONS_WITH_VALUES.contains(args[i])) {
+                ++i;
+            } else if (!args[i].startsWith("-")) {
+                paths.add(args[i]);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Split the feature paths into work units. Feature files are split into a unit per scenario, while anything
+     * that can't be split (classpath resources, rerun files, or paths that already specify a line) is a single unit.
+     */
+    private List<String> getWorkUnits(final String[] args) {
+        final List<String> units = new ArrayList<>();
+        for (final String path : getFeaturePaths(args)) {
+            final File file = new File(path);
+            if (file.isDirectory()) {
+                try (Stream<Path> files = Files.walk(file.toPath())) {
+                    files.filter(p -> p.toString().endsWith(".feature"))
+                            .sorted()
+                            .forEach(p -> units.addAll(getScenarioUnits(p.toFile())));
+                } catch (final IOException ex) {
+                    throw new ScriptException("Failed to scan " + path + " for feature files.", ex);
+                }
+            } else if (file.isFile()) {
+                units.addAll(getScenarioUnits(file));
+            } else {
+                units.add(path);
+            }
+        }
+        return units;
+    }
+
+    private List<String> getScenarioUnits(final File feature) {
+        try {
+            final List<String> lines = Files.readAllLines(feature.toPath(), StandardCharsets.UTF_8);
+            final boolean english = lines.stream()
+                    .map(String::trim)
+                    .filter(l -> l.startsWith("#") && l.replace(" ", "").startsWith("#language:"))
+                    .allMatch(l -> l.replace(" ", "").equals("#language:en"));
+
+            final List<String> units = new ArrayList<>();
+            if (english) {
+                for (int i = 0; i < lines.size(); ++i) {
+                    final String line = lines.get(i).trim();
+                    if (Stream.of(SCENARIO_KEYWORDS).anyMatch(line::startsWith)) {
+                        units.add(feature.getPath() + ":" + (i + 1));
+                    }
+                }
+            }
+
+            // Features in other languages, or that have no scenarios we could find, are run as a whole
+            return units.isEmpty() ? List.of(feature.getPath()) : units;
+        } catch (final IOException ex) {
+            throw new ScriptException("Failed to read the feature file " + feature, ex);
+        }
+    }
+}
@@ -2,26 +2,45 @@ package com.octopus.utils.impl;
 
 import com.octopus.Constants;
 import com.octopus.exceptions.WebElementException;
+import com.octopus.utils.Deadline;
+import com.octopus.utils.ElementCache;
+import com.octopus.utils.ElementDiagnostics;
+import com.octopus.utils.ElementWaitEngine;
 import com.octopus.utils.ExpectedConditionCallback;
+import com.octopus.utils.LocatorCandidate;
+import com.octopus.utils.LocatorClassification;
+import com.octopus.utils.LocatorClassifier;
+import com.octopus.utils.LocatorStrategy;
+import com.octopus.utils.LocatorStrategyCache;
+import com.octopus.utils.PollingPolicy;
+import com.octopus.utils.PollingPolicyService;
 import com.octopus.utils.SimpleBy;
+import com.octopus.utils.StepScope;
 import com.octopus.utils.SystemPropertyUtils;
-import io.vavr.control.Try;
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.By;
-import org.openqa.selenium.OutputType;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 public class SimpleByImpl implements SimpleBy {
     static final Logger LOGGER = Logger.getLogger(SimpleByImpl.class.toString());
     private static final SystemPropertyUtils SYSTEM_PROPERTY_UTILS = new SystemPropertyUtilsImpl();
+    private static final LocatorStrategyCache LOCATOR_STRATEGY_CACHE = new LocatorStrategyCacheImpl();
+    private static final LocatorClassifier LOCATOR_CLASSIFIER = new LocatorClassifierImpl();
+    private static final SimpleBy SIMPLE_BY_SCRIPT = new SimpleByScriptImpl();
+    private static final SimpleBy SIMPLE_BY_MUTATION_OBSERVER = new SimpleByMutationObserverImpl();
+    private static final ElementWaitEngine ELEMENT_WAIT_ENGINE = new ElementWaitEngineImpl();
+    private static final StepScope STEP_SCOPE = new StepScopeImpl();
+    private static final ElementCache ELEMENT_CACHE = new ElementCacheImpl();
+    private static final ElementDiagnostics ELEMENT_DIAGNOSTICS = new ElementDiagnosticsImpl();
+    private static final PollingPolicyService POLLING_POLICY_SERVICE = new PollingPolicyServiceImpl();
     private static final int MILLISECONDS_PER_SECOND = 1000;
     private static final int SUB_SECOND_TIME_SLICE = 100;
     private static final int SECOND_TIME_SLICE = 1000;
@@ -33,7 +52,8 @@ public class SimpleByImpl implements SimpleBy {
             final int waitTime,
             final ExpectedConditionCallback expectedConditionCallback) {
 
-        // If the wait time is less than a second, poll every 100 milliseconds. Otherwise poll every second.
+        // If the wait time is less than a second, try each strategy for at most 100 milliseconds at a time.
+        // Otherwise try each strategy for at most a second at a time.
         return getElement(
                 webDriver,
                 locator,
@@ -50,29 +70,84 @@ public class SimpleByImpl implements SimpleBy {
             final ExpectedConditionCallback expectedConditionCallback,
             final int timeSlice) {
 
-        final By[] byInstances = new By[] {
-                By.id(locator),
-                By.xpath(locator),
-                By.cssSelector(locator),
-                By.className(locator),
-                By.linkText(locator),
-                By.name(locator)
-        };
+        if (ELEMENT_CACHE.isEnabled()) {
+            final Optional<WebElement> cachedElement =
+                    ELEMENT_CACHE.getElement(webDriver, locator, expectedConditionCallback);
+            if (cachedElement.isPresent()) {
+                return cachedElement.get();
+            }
+        }
+
+        if (ELEMENT_WAIT_ENGINE.isEnabled() && webDriver instanceof JavascriptExecutor) {
+            return SIMPLE_BY_MUTATION_OBSERVER.getElement(webDriver, locator, waitTime, expectedConditionCallback, timeSlice);
+        }
+
+        if (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.SIMPLE_BY_SCRIPT, false)
+                && webDriver instanceof JavascriptExecutor) {
+            return SIMPLE_BY_SCRIPT.getElement(webDriver, locator, waitTime, expectedConditionCallback, timeSlice);
+        }
+
+        return pollElement(
+                webDriver,
+                locator,
+                waitTime,
+                STEP_SCOPE.getDeadline(waitTime * MILLISECONDS_PER_SECOND),
+                expectedConditionCallback,
+                timeSlice);
+    }
 
-        long time = -1;
+    /**
+     * Find the element by trying each strategy in turn, each with its own wait. Every strategy is tried at least
+     * once, even if the deadline has passed. The time given to each strategy starts short and grows with each
+     * pass according to the browser's polling policy, up to the time slice, so elements on fast pages are found
+     * quickly while slow pages are not flooded with requests. The lookup is recorded with the polling policy as a
+     * single wait, with the polls made by every strategy.
+     */
+    static WebElement pollElement(
+            final WebDriver webDriver,
+            final String locator,
+            final int waitTime,
+            final Deadline deadline,
+            final ExpectedConditionCallback expectedConditionCallback,
+            final int timeSlice) {
 
-        while (time < waitTime * MILLISECONDS_PER_SECOND) {
-            for (final By by : byInstances) {
+        final LocatorClassification classification = LOCATOR_CLASSIFIER.classify(locator);
+        final Optional<LocatorStrategy> cachedStrategy = LOCATOR_STRATEGY_CACHE.getStrategy(webDriver, locator);
+        final List<LocatorCandidate> candidates = getOrderedCandidates(classification.getCandidates(), cachedStrategy);
+        final PollingPolicy pollingPolicy = POLLING_POLICY_SERVICE.getPolicy(webDriver);
+        final long start = System.nanoTime();
+
+        int pass = 0;
+        int polls = 0;
+        do {
+            final long passTimeSlice = Math.min(timeSlice, pollingPolicy.getIntervalMillis(++pass));
+            for (final LocatorCandidate candidate : candidates) {
+                final By by = candidate.getBy();
+                LOCATOR_CLASSIFIER.recordAttempt(candidate.getStrategy());
                 try {
                     final WebDriverWaitEx wait = new WebDriverWaitEx(
                             webDriver,
-                            timeSlice,
-                            TimeUnit.MILLISECONDS);
+                            Math.min(passTimeSlice, deadline.getRemainingMillis()),
+                            TimeUnit.MILLISECONDS,
+                            pollingPolicy);
                     final ExpectedCondition<WebElement> condition =
                             expectedConditionCallback.getExpectedCondition(by);
-                    final WebElement element = wait.until(condition);
-
-                    saveMultipleElements(webDriver, by, locator);
+                    final WebElement element;
+                    try {
+                        element = wait.until(condition);
+                    } finally {
+                        polls += wait.getPolls();
+                    }
+
+                    recordElement(
+                            webDriver,
+                            locator,
+                            expectedConditionCallback,
+                            candidate,
+                            cachedStrategy,
+                            element);
+                    ELEMENT_DIAGNOSTICS.checkMultipleElements(webDriver, by, locator);
+                    pollingPolicy.recordWait(polls, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), true);
 
                     return element;
                 } catch (final Exception ignored) {
@@ -80,36 +155,54 @@ public class SimpleByImpl implements SimpleBy {
                     Do nothing
                   */
                 }
-
-                time += timeSlice;
             }
-        }
+        } while (!deadline.isExpired());
+
+        pollingPolicy.recordWait(polls, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), false);
 
         throw new WebElementException("All attempts to find element located with " + locator + " failed after " + waitTime + " seconds");
     }
 
-    private void saveMultipleElements(final WebDriver webDriver, final By by, final String locator) {
-        final List<WebElement> matched = webDriver.findElements(by);
-        if (matched.size() <= 1) {
-            return;
-        }
-
-        LOGGER.info("\nMatched " + matched.size() + " elements with the locator on the page " + webDriver.getCurrentUrl());
-        LOGGER.info(locator);
-        matched.stream().forEach(e -> {
-            LOGGER.info(e.getTagName() +
-                    " X: " + e.getLocation().x +
-                    " Y: " + e.getLocation().y);
-
-            if (SYSTEM_PROPERTY_UTILS.getPropertyAsBoolean(Constants.SAVE_SCREENSHOTS_OF_MATCHED_ELEMENTS, false)) {
-                Try.run(() -> {
-                    final Path temp = Files.createTempFile("element", ".png");
-                    FileUtils.copyFile(e.getScreenshotAs(OutputType.FILE), temp.toFile());
-                    LOGGER.info(temp.toFile().getCanonicalPath());
+    /**
+     * The first candidate using the strategy that resolved a locator last time is tried first, followed by the
+     * other candidates in the order defined by the classifier.
+     */
+    static List<LocatorCandidate> getOrderedCandidates(
+            final List<LocatorCandidate> classifiedCandidates,
+            final Optional<LocatorStrategy> cachedStrategy) {
+        final List<LocatorCandidate> candidates = new ArrayList<>(classifiedCandidates);
+        cachedStrategy
+                .flatMap(strategy -> candidates.stream().filter(candidate -> candidate.getStrategy() == strategy).findFirst())
+                .ifPresent(candidate -> {
+                    candidates.remove(candidate);
+                    candidates.add(0, candidate);
                 });
-            }
-        });
-        LOGGER.info("Consider fixing the locator to be specific to a single element.");
+        return candidates;
+    }
 
+    /**
+     * Remember the strategy that resolved a locator, and the element it resolved for the rest of the step.
+     */
+    static void recordElement(
+            final WebDriver webDriver,
+            final String locator,
+            final ExpectedConditionCallback expectedConditionCallback,
+            final LocatorCandidate candidate,
+            final Optional<LocatorStrategy> cachedStrategy,
+            final WebElement element) {
+        LOCATOR_STRATEGY_CACHE.recordStrategy(
+                webDriver,
+                locator,
+                candidate.getStrategy(),
+                cachedStrategy.map(candidate.getStrategy()::equals).orElse(false));
+
+        if (ELEMENT_CACHE.isEnabled()) {
+            ELEMENT_CACHE.putElement(
+                    webDriver,
+                    locator,
+                    expectedConditionCallback,
+                    candidate.getBy(),
+                    element);
+        }
     }
 }
\ No newline at end of file
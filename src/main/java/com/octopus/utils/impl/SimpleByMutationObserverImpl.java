@@ -0,0 +1,114 @@
+package com.octopus.utils.impl;
+
+import com.octopus.exceptions.WebElementException;
+import com.octopus.utils.Deadline;
+import com.octopus.utils.ElementDiagnostics;
+import com.octopus.utils.ElementWaitEngine;
+import com.octopus.utils.ExpectedConditionCallback;
+import com.octopus.utils.LocatorCandidate;
+import com.octopus.utils.LocatorClassification;
+import com.octopus.utils.LocatorClassifier;
+import com.octopus.utils.LocatorStrategy;
+import com.octopus.utils.LocatorStrategyCache;
+import com.octopus.utils.SimpleBy;
+import com.octopus.utils.StepScope;
+import io.vavr.control.Try;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A "simple by" lookup that waits for the element with a MutationObserver rather than polling. The lookup waits
+ * in the browser until an element matching the locator exists, and then checks the expected condition through
+ * WebDriver. If the condition is not met yet, for example because the element is not clickable, the condition
+ * is checked again after the next DOM change.
+ * <p>
+ * If the browser does not support asynchronous scripts, the lookup falls back to the regular polling lookup.
+ */
+public class SimpleByMutationObserverImpl implements SimpleBy {
+    private static final ElementWaitEngine ELEMENT_WAIT_ENGINE = new ElementWaitEngineImpl();
+    private static final LocatorStrategyCache LOCATOR_STRATEGY_CACHE = new LocatorStrategyCacheImpl();
+    private static final LocatorClassifier LOCATOR_CLASSIFIER = new LocatorClassifierImpl();
+    private static final StepScope STEP_SCOPE = new StepScopeImpl();
+    private static final ElementDiagnostics ELEMENT_DIAGNOSTICS = new ElementDiagnosticsImpl();
+    private static final int MILLISECONDS_PER_SECOND = 1000;
+    private static final int SUB_SECOND_TIME_SLICE = 100;
+    private static final int SECOND_TIME_SLICE = 1000;
+
+    @Override
+    public WebElement getElement(
+            final WebDriver webDriver,
+            final String locator,
+            final int waitTime,
+            final ExpectedConditionCallback expectedConditionCallback) {
+
+        return getElement(
+                webDriver,
+                locator,
+                waitTime,
+                expectedConditionCallback,
+                waitTime * MILLISECONDS_PER_SECOND >= SECOND_TIME_SLICE ? SECOND_TIME_SLICE : SUB_SECOND_TIME_SLICE);
+    }
+
+    @Override
+    public WebElement getElement(
+            final WebDriver webDriver,
+            final String locator,
+            final int waitTime,
+            final ExpectedConditionCallback expectedConditionCallback,
+            final int timeSlice) {
+
+        final LocatorClassification classification = LOCATOR_CLASSIFIER.classify(locator);
+        final Optional<LocatorStrategy> cachedStrategy = LOCATOR_STRATEGY_CACHE.getStrategy(webDriver, locator);
+        final List<LocatorCandidate> candidates =
+                SimpleByImpl.getOrderedCandidates(classification.getCandidates(), cachedStrategy);
+        final Deadline deadline = STEP_SCOPE.getDeadline(waitTime * MILLISECONDS_PER_SECOND);
+
+        do {
+
+            final Try<Boolean> present = Try.of(() -> ELEMENT_WAIT_ENGINE.awaitState(
+                    webDriver,
+                    candidates,
+                    ElementWaitEngine.ElementState.PRESENT,
+                    deadline.getRemainingMillis()));
+            if (present.isFailure()) {
+                SimpleByImpl.LOGGER.fine("Falling back to polling for " + locator + ": " + present.getCause());
+                return SimpleByImpl.pollElement(
+                        webDriver, locator, waitTime, deadline, expectedConditionCallback, timeSlice);
+            }
+            if (!present.get()) {
+                break;
+            }
+
+            for (final LocatorCandidate candidate : candidates) {
+                final By by = candidate.getBy();
+                LOCATOR_CLASSIFIER.recordAttempt(candidate.getStrategy());
+                final WebElement element = Try.of(() -> expectedConditionCallback.getExpectedCondition(by).apply(webDriver))
+                        .getOrNull();
+                if (element != null) {
+                    SimpleByImpl.recordElement(
+                            webDriver,
+                            locator,
+                            expectedConditionCallback,
+                            candidate,
+                            cachedStrategy,
+                            element);
+                    ELEMENT_DIAGNOSTICS.checkMultipleElements(webDriver, by, locator);
+                    return element;
+                }
+            }
+
+            // The element exists but the condition is not met yet, so check again once the page changes
+            if (!deadline.isExpired()) {
+                Try.of(() -> ELEMENT_WAIT_ENGINE.awaitMutation(
+                        webDriver,
+                        Math.min(timeSlice, deadline.getRemainingMillis())));
+            }
+        } while (!deadline.isExpired());
+
+        throw new WebElementException("All attempts to find element located with " + locator + " failed after " + waitTime + " seconds");
+    }
+}
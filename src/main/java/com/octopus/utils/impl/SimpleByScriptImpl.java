@@ -0,0 +1,158 @@
+package com.octopus.utils.impl;
+
+import com.octopus.exceptions.WebElementException;
+import com.octopus.utils.Deadline;
+import com.octopus.utils.ElementDiagnostics;
+import com.octopus.utils.ExpectedConditionCallback;
+import com.octopus.utils.LocatorCandidate;
+import com.octopus.utils.LocatorClassification;
+import com.octopus.utils.LocatorClassifier;
+import com.octopus.utils.LocatorStrategy;
+import com.octopus.utils.LocatorStrategyCache;
+import com.octopus.utils.PollingPolicy;
+import com.octopus.utils.PollingPolicyService;
+import com.octopus.utils.SimpleBy;
+import com.octopus.utils.StepScope;
+import io.vavr.control.Try;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A "simple by" lookup that resolves a locator against every strategy with a single script. The script returns
+ * the strategies that matched the locator, and only the expected condition of the first matching strategy is
+ * then checked through WebDriver. This means each poll costs two requests rather than up to six, which matters
+ * for remote sessions where each request is slow.
+ * <p>
+ * If the script can not be run, the lookup falls back to the regular polling lookup.
+ */
+public class SimpleByScriptImpl implements SimpleBy {
+    private static final LocatorStrategyCache LOCATOR_STRATEGY_CACHE = new LocatorStrategyCacheImpl();
+    private static final LocatorClassifier LOCATOR_CLASSIFIER = new LocatorClassifierImpl();
+    private static final StepScope STEP_SCOPE = new StepScopeImpl();
+    private static final ElementDiagnostics ELEMENT_DIAGNOSTICS = new ElementDiagnosticsImpl();
+    private static final PollingPolicyService POLLING_POLICY_SERVICE = new PollingPolicyServiceImpl();
+    private static final int MILLISECONDS_PER_SECOND = 1000;
+    private static final int SUB_SECOND_TIME_SLICE = 100;
+    private static final int SECOND_TIME_SLICE = 1000;
+    /**
+     * Returns a list of [candidate index, match count] pairs for each [strategy, locator] candidate, passed in the
+     * order they should be tried, that matches. Invalid XPaths and CSS selectors are treated as no match.
+     */
+    private static final String RESOLVE_SCRIPT = """
+            const count = {
+                ID: locator => document.getElementById(locator) ? 1 : 0,
+                XPATH: locator => document.evaluate(
+                    locator, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength,
+                CSS_SELECTOR: locator => document.querySelectorAll(locator).length,
+                CLASS_NAME: locator => /\\s/.test(locator.trim()) ? 0 : document.getElementsByClassName(locator).length,
+                LINK_TEXT: locator => Array.from(document.getElementsByTagName('a'))
+                    .filter(a => (a.innerText || a.textContent || '').trim() === locator.trim()).length,
+                NAME: locator => document.getElementsByName(locator).length
+            };
+            const matches = [];
+            arguments[0].forEach(([strategy, locator], index) => {
+                try {
+                    const matched = count[strategy](locator);
+                    if (matched > 0) {
+                        matches.push([index, matched]);
+                    }
+                } catch (e) {
+                    // The locator is not valid for this strategy
+                }
+            });
+            return matches;
+            """;
+
+    @Override
+    public WebElement getElement(
+            final WebDriver webDriver,
+            final String locator,
+            final int waitTime,
+            final ExpectedConditionCallback expectedConditionCallback) {
+
+        return getElement(
+                webDriver,
+                locator,
+                waitTime,
+                expectedConditionCallback,
+                waitTime * MILLISECONDS_PER_SECOND >= SECOND_TIME_SLICE ? SECOND_TIME_SLICE : SUB_SECOND_TIME_SLICE);
+    }
+
+    @Override
+    public WebElement getElement(
+            final WebDriver webDriver,
+            final String locator,
+            final int waitTime,
+            final ExpectedConditionCallback expectedConditionCallback,
+            final int timeSlice) {
+
+        final LocatorClassification classification = LOCATOR_CLASSIFIER.classify(locator);
+        final Optional<LocatorStrategy> cachedStrategy = LOCATOR_STRATEGY_CACHE.getStrategy(webDriver, locator);
+        final List<LocatorCandidate> candidates =
+                SimpleByImpl.getOrderedCandidates(classification.getCandidates(), cachedStrategy);
+        final List<List<String>> candidateArguments = candidates.stream()
+                .map(candidate -> List.of(candidate.getStrategy().name(), candidate.getLocator()))
+                .collect(Collectors.toList());
+        final Deadline deadline = STEP_SCOPE.getDeadline(waitTime * MILLISECONDS_PER_SECOND);
+        final PollingPolicy pollingPolicy = POLLING_POLICY_SERVICE.getPolicy(webDriver);
+        final long start = System.nanoTime();
+
+        int pass = 0;
+        do {
+            ++pass;
+            final Try<List<List<Object>>> matches =
+                    Try.of(() -> resolve(webDriver, candidateArguments));
+            if (matches.isFailure()) {
+                SimpleByImpl.LOGGER.fine("Falling back to polling for " + locator + ": " + matches.getCause());
+                return SimpleByImpl.pollElement(
+                        webDriver, locator, waitTime, deadline, expectedConditionCallback, timeSlice);
+            }
+
+            for (final List<Object> match : matches.get()) {
+                final int index = ((Number) match.get(0)).intValue();
+                if (index < 0 || index >= candidates.size()) {
+                    continue;
+                }
+
+                final LocatorCandidate candidate = candidates.get(index);
+                final By by = candidate.getBy();
+                LOCATOR_CLASSIFIER.recordAttempt(candidate.getStrategy());
+                final WebElement element = Try.of(() -> expectedConditionCallback.getExpectedCondition(by).apply(webDriver))
+                        .getOrNull();
+                if (element != null) {
+                    SimpleByImpl.recordElement(
+                            webDriver,
+                            locator,
+                            expectedConditionCallback,
+                            candidate,
+                            cachedStrategy,
+                            element);
+                    if (((Number) match.get(1)).intValue() > 1) {
+                        ELEMENT_DIAGNOSTICS.checkMultipleElements(webDriver, by, locator);
+                    }
+                    pollingPolicy.recordWait(pass, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), true);
+                    return element;
+                }
+            }
+
+            final long sleep = Math.min(Math.min(timeSlice, pollingPolicy.getIntervalMillis(pass)), deadline.getRemainingMillis());
+            Try.run(() -> Thread.sleep(sleep));
+        } while (!deadline.isExpired());
+
+        pollingPolicy.recordWait(pass, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), false);
+
+        throw new WebElementException("All attempts to find element located with " + locator + " failed after " + waitTime + " seconds");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> resolve(final WebDriver webDriver, final List<List<String>> candidates) {
+        return (List<List<Object>>) ((JavascriptExecutor) webDriver).executeScript(RESOLVE_SCRIPT, candidates);
+    }
+}
@@ -0,0 +1,68 @@
+package com.octopus.utils.impl;
+
+import com.octopus.utils.Deadline;
+import com.octopus.utils.StepScope;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A step scope that holds the deadline in a static ThreadLocal, so every decorator on the thread running the
+ * step sees the same deadline.
+ */
+public class StepScopeImpl implements StepScope {
+    private static final ThreadLocal<Deadline> DEADLINE = new ThreadLocal<>();
+    /**
+     * Set while a step without a fixed deadline is running, until its first wait sets the deadline.
+     */
+    private static final ThreadLocal<Boolean> AWAITING_DEADLINE = new ThreadLocal<>();
+
+    @Override
+    public void startStep(final Deadline deadline) {
+        AWAITING_DEADLINE.remove();
+        DEADLINE.set(deadline);
+    }
+
+    @Override
+    public void startStep() {
+        DEADLINE.remove();
+        AWAITING_DEADLINE.set(true);
+    }
+
+    @Override
+    public void endStep() {
+        AWAITING_DEADLINE.remove();
+        DEADLINE.remove();
+    }
+
+    @Override
+    public Optional<Deadline> getDeadline() {
+        return Optional.ofNullable(DEADLINE.get());
+    }
+
+    @Override
+    public Deadline getDeadline(final long waitMillis) {
+        final Deadline deadline = Deadline.afterMillis(waitMillis).min(DEADLINE.get());
+        // A wait of zero is a check for an element that is already there, so it doesn't set the step's budget
+        if (waitMillis > 0 && AWAITING_DEADLINE.get() != null) {
+            AWAITING_DEADLINE.remove();
+            DEADLINE.set(deadline);
+        }
+        return deadline;
+    }
+
+    @Override
+    public <T> T withDeadline(final Deadline deadline, final Supplier<T> action) {
+        final Deadline existing = DEADLINE.get();
+        DEADLINE.set(deadline.min(existing));
+        try {
+            return action.get();
+        } finally {
+            if (existing == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(existing);
+            }
+        }
+    }
+}
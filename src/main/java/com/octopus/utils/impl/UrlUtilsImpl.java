@@ -0,0 +1,19 @@
+package com.octopus.utils.impl;
+
+import com.octopus.utils.UrlUtils;
+import io.vavr.control.Try;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Optional;
+
+public class UrlUtilsImpl implements UrlUtils {
+    @Override
+    public Optional<String> getOrigin(final String url) {
+        return Optional.ofNullable(url)
+                .flatMap(u -> Try.of(() -> new URI(u)).toJavaOptional())
+                .filter(uri -> uri.getScheme() != null && uri.getHost() != null)
+                .map(uri -> uri.getScheme().toLowerCase(Locale.ROOT) + "://" + uri.getHost().toLowerCase(Locale.ROOT)
+                        + (uri.getPort() == -1 ? "" : ":" + uri.getPort()));
+    }
+}
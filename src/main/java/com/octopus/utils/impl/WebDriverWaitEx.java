@@ -1,5 +1,7 @@
 package com.octopus.utils.impl;
 
+import com.octopus.utils.Deadline;
+import com.octopus.utils.PollingPolicy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.Clock;
 import org.openqa.selenium.support.ui.Sleeper;
@@ -7,10 +9,20 @@ import org.openqa.selenium.support.ui.SystemClock;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 public class WebDriverWaitEx extends WebDriverWait {
     public static final long DEFAULT_SLEEP_TIMEOUT = 10;
 
+    /**
+     * The sleeper that counts the polls made by the wait, or null if the wait polls at a fixed interval.
+     */
+    private AdaptiveSleeper adaptiveSleeper;
+    /**
+     * The number of times until() has been called.
+     */
+    private int waits;
+
     public WebDriverWaitEx(final WebDriver driver, final long timeOutInSeconds) {
         this(driver, new SystemClock(), Sleeper.SYSTEM_SLEEPER, timeOutInSeconds, DEFAULT_SLEEP_TIMEOUT);
     }
@@ -23,6 +35,24 @@ public class WebDriverWaitEx extends WebDriverWait {
         this(driver, new SystemClock(), Sleeper.SYSTEM_SLEEPER, timeOutInSeconds, sleepInMillis);
     }
 
+    /**
+     * Create a wait that polls at the intervals defined by a polling policy, and counts its polls. The caller
+     * records the outcome with the policy, as a single lookup may be made up of many waits.
+     */
+    public WebDriverWaitEx(final WebDriver driver, final long timeOut, final TimeUnit time, final PollingPolicy pollingPolicy) {
+        this(driver, timeOut, time, new AdaptiveSleeper(pollingPolicy, Deadline.afterMillis(time.toMillis(timeOut))));
+    }
+
+    private WebDriverWaitEx(
+            final WebDriver driver,
+            final long timeOut,
+            final TimeUnit time,
+            final AdaptiveSleeper adaptiveSleeper) {
+
+        this(driver, new SystemClock(), adaptiveSleeper, timeOut, DEFAULT_SLEEP_TIMEOUT, time);
+        this.adaptiveSleeper = adaptiveSleeper;
+    }
+
     public WebDriverWaitEx(
             final WebDriver driver,
             final Clock clock,
@@ -46,4 +76,18 @@ public class WebDriverWaitEx extends WebDriverWait {
         // Now set the timeout, possibly as a sub-second duration
         withTimeout(timeOut, time);
     }
-}
\ No newline at end of file
+
+    @Override
+    public <V> V until(final Function<? super WebDriver, V> isTrue) {
+        ++waits;
+        return super.until(isTrue);
+    }
+
+    /**
+     * @return The number of times the condition was checked, or 0 if the wait polls at a fixed interval. The
+     * condition is checked once when the wait starts, and once after each sleep.
+     */
+    public int getPolls() {
+        return adaptiveSleeper == null ? 0 : waits + adaptiveSleeper.getSleeps();
+    }
+}
@@ -7,30 +7,46 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 public class ZipUtilsImpl implements ZipUtils {
     public void unzipFile(final String fileZip, final String outputDirectory) throws IOException {
+        try (final FileInputStream fis = new FileInputStream(fileZip)) {
+            unzipStream(fis, outputDirectory);
+        }
+    }
 
-        final byte[] buffer = new byte[1024];
+    public void unzipStream(final InputStream zipStream, final String outputDirectory) throws IOException {
+
+        final byte[] buffer = new byte[8192];
+        final File outputDirectoryFile = new File(outputDirectory).getCanonicalFile();
+
+        // The stream is owned by the caller, so the ZipInputStream is not closed here
+        final ZipInputStream zis = new ZipInputStream(zipStream);
+        ZipEntry zipEntry = zis.getNextEntry();
+        while (zipEntry != null) {
+            final File newFile = new File(outputDirectoryFile, zipEntry.getName()).getCanonicalFile();
+            if (!newFile.toPath().startsWith(outputDirectoryFile.toPath())) {
+                throw new IOException("Zip entry " + zipEntry.getName() + " is outside of the output directory");
+            }
 
-        try (final ZipInputStream zis = new ZipInputStream(new FileInputStream(fileZip))) {
-            ZipEntry zipEntry = zis.getNextEntry();
-            while (zipEntry != null) {
-                final String fileName = zipEntry.getName();
-                final File newFile = new File(outputDirectory + "/" + fileName);
+            if (zipEntry.isDirectory()) {
+                newFile.mkdirs();
+            } else {
+                newFile.getParentFile().mkdirs();
                 try (final FileOutputStream fos = new FileOutputStream(newFile)) {
                     int len;
                     while ((len = zis.read(buffer)) > 0) {
                         fos.write(buffer, 0, len);
                     }
                 }
-                zipEntry = zis.getNextEntry();
             }
-            zis.closeEntry();
+            zipEntry = zis.getNextEntry();
         }
+        zis.closeEntry();
     }
 
     public void zipDirectory(final String fileZip, final String inputDirectory) throws IOException {
@@ -0,0 +1,75 @@
+package com.octopus;
+
+import com.octopus.utils.AliasStore;
+import com.octopus.utils.impl.AliasStoreImpl;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
+
+public class AliasStoreTest {
+
+    @Test
+    public void scenarioAliasesHideSharedAliases() {
+        final AliasStore shared = new AliasStoreImpl(null);
+        final AliasStore scenario = new AliasStoreImpl(shared);
+        shared.putAliases(Map.of("Name", "shared", "Other", "other"));
+        scenario.putAlias("Name", "scenario");
+
+        assertEquals("scenario", scenario.getAlias("Name"));
+        assertEquals("other", scenario.getAlias("Other"));
+        assertEquals("shared", shared.getAlias("Name"));
+        assertEquals(Map.of("Name", "scenario", "Other", "other"), scenario.getSnapshot());
+    }
+
+    @Test
+    public void nullValuesHideParentValues() {
+        final AliasStore shared = new AliasStoreImpl(null);
+        final AliasStore scenario = new AliasStoreImpl(shared);
+        shared.putAlias("LastReturn", "shared");
+        scenario.putAlias("LastReturn", null);
+
+        assertTrue(scenario.containsAlias("LastReturn"));
+        assertNull(scenario.getAlias("LastReturn"));
+        assertNull(scenario.getSubstitutedString("LastReturn"));
+    }
+
+    @Test
+    public void versionChangesWhenAParentChanges() {
+        final AliasStore shared = new AliasStoreImpl(null);
+        final AliasStore scenario = new AliasStoreImpl(shared);
+        final long version = scenario.getVersion();
+        final Map<String, String> snapshot = scenario.getSnapshot();
+
+        shared.putAlias("Name", "value");
+
+        assertTrue(scenario.getVersion() != version);
+        assertTrue(snapshot.isEmpty());
+        assertEquals("value", scenario.getSnapshot().get("Name"));
+    }
+
+    @Test
+    public void referencesAreSubstituted() {
+        final AliasStore aliases = new AliasStoreImpl(null);
+        aliases.putAliases(Map.of("First", "Jane", "Last", "Doe", "Login", "#{First}.#{Last}"));
+
+        assertEquals("Jane Doe", aliases.getSubstitutedString("#{First} #{Last}"));
+        assertEquals("Hello #{Unknown}", aliases.getSubstitutedString("Hello #{Unknown}"));
+        assertEquals("Jane", aliases.getSubstitutedString("First"));
+        assertEquals("Jane.Doe", aliases.getSubstitutedString("Login"));
+        assertEquals("user Jane.Doe", aliases.getSubstitutedString("user #{Login}"));
+        assertEquals("#{First}", aliases.getSubstitutedString("$#{First}"));
+        assertEquals("plain text", aliases.getSubstitutedString("plain text"));
+    }
+
+    @Test
+    public void nestedReferencesAreSubstituted() {
+        final AliasStore aliases = new AliasStoreImpl(null);
+        aliases.putAliases(Map.of("Environment", "Test", "UrlTest", "https://test.example.com"));
+
+        assertEquals("https://test.example.com", aliases.getSubstitutedString("#{Url#{Environment}}"));
+    }
+}
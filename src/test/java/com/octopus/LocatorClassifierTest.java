@@ -0,0 +1,103 @@
+package com.octopus;
+
+import com.octopus.utils.LocatorCandidate;
+import com.octopus.utils.LocatorClassification;
+import com.octopus.utils.LocatorClassifier;
+import com.octopus.utils.LocatorStrategy;
+import com.octopus.utils.impl.LocatorClassifierImpl;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+public class LocatorClassifierTest {
+
+    private static final LocatorClassifier LOCATOR_CLASSIFIER = new LocatorClassifierImpl();
+
+    @Test
+    public void prefixedLocatorsTryTheirStrategyFirst() {
+        final List<LocatorCandidate> candidates = LOCATOR_CLASSIFIER.classify("css=#message").getCandidates();
+        assertEquals(LocatorStrategy.CSS_SELECTOR, candidates.get(0).getStrategy());
+        assertEquals("#message", candidates.get(0).getLocator());
+
+        final LocatorCandidate linkText = LOCATOR_CLASSIFIER.classify("link=Sign in").getCandidates().get(0);
+        assertEquals(LocatorStrategy.LINK_TEXT, linkText.getStrategy());
+        assertEquals("Sign in", linkText.getLocator());
+    }
+
+    @Test
+    public void prefixedLocatorsAreAlsoTriedAsWritten() {
+        // An existing name or id that happens to start with a prefix still resolves
+        assertTrue(hasCandidate(LOCATOR_CLASSIFIER.classify("id=main"), LocatorStrategy.ID, "id=main"));
+        assertTrue(hasCandidate(LOCATOR_CLASSIFIER.classify("name=q"), LocatorStrategy.NAME, "name=q"));
+        assertTrue(hasCandidate(LOCATOR_CLASSIFIER.classify("css=#message"), LocatorStrategy.NAME, "css=#message"));
+    }
+
+    @Test
+    public void xpathLocatorsTryXPathFirst() {
+        assertEquals(LocatorStrategy.XPATH, LOCATOR_CLASSIFIER.classify("//button[@id='submit']").getStrategies().get(0));
+        assertEquals(LocatorStrategy.XPATH, LOCATOR_CLASSIFIER.classify("(//a)[2]").getStrategies().get(0));
+    }
+
+    @Test
+    public void textThatLooksLikeAnXPathIsStillLinkTextOrName() {
+        final LocatorClassification linkText = LOCATOR_CLASSIFIER.classify("(opens in new tab)");
+        assertEquals(LocatorStrategy.XPATH, linkText.getStrategies().get(0));
+        assertTrue(linkText.getStrategies().contains(LocatorStrategy.LINK_TEXT));
+
+        final LocatorClassification name = LOCATOR_CLASSIFIER.classify("/docs");
+        assertTrue(name.getStrategies().contains(LocatorStrategy.LINK_TEXT));
+        assertTrue(name.getStrategies().contains(LocatorStrategy.NAME));
+        assertTrue(name.getStrategies().contains(LocatorStrategy.ID));
+    }
+
+    @Test
+    public void whitespaceRulesOutClassNames() {
+        final List<LocatorStrategy> strategies = LOCATOR_CLASSIFIER.classify("Sign in").getStrategies();
+        assertFalse(strategies.contains(LocatorStrategy.CLASS_NAME));
+        assertEquals(LocatorStrategy.ID, strategies.get(strategies.size() - 1));
+        assertTrue(strategies.contains(LocatorStrategy.XPATH));
+    }
+
+    @Test
+    public void cssSyntaxIsTriedAsACssSelectorFirst() {
+        final List<LocatorStrategy> strategies = LOCATOR_CLASSIFIER.classify("div.message > span").getStrategies();
+        assertEquals(LocatorStrategy.CSS_SELECTOR, strategies.get(0));
+    }
+
+    @Test
+    public void classNamesWithCssSyntaxAreStillClassNames() {
+        final List<LocatorStrategy> strategies = LOCATOR_CLASSIFIER.classify("md:flex").getStrategies();
+        assertEquals(LocatorStrategy.CSS_SELECTOR, strategies.get(0));
+        assertTrue(strategies.contains(LocatorStrategy.CLASS_NAME));
+    }
+
+    @Test
+    public void plainLocatorsKeepTheDefaultOrderWithXPathLast() {
+        assertEquals(
+                List.of(LocatorStrategy.ID, LocatorStrategy.CSS_SELECTOR, LocatorStrategy.CLASS_NAME,
+                        LocatorStrategy.LINK_TEXT, LocatorStrategy.NAME, LocatorStrategy.XPATH),
+                LOCATOR_CLASSIFIER.classify("text_element").getStrategies());
+    }
+
+    @Test
+    public void locatorsWithoutWhitespaceKeepEveryStrategy() {
+        for (final String locator : List.of("text_element", "md:flex", "/docs", "(//a)[2]", "id=main", "a.b#c")) {
+            assertEquals(
+                    Set.of(LocatorStrategy.values()),
+                    Set.copyOf(LOCATOR_CLASSIFIER.classify(locator).getStrategies()));
+        }
+    }
+
+    private static boolean hasCandidate(
+            final LocatorClassification classification,
+            final LocatorStrategy strategy,
+            final String locator) {
+        return classification.getCandidates().stream()
+                .anyMatch(candidate -> candidate.getStrategy() == strategy && candidate.getLocator().equals(locator));
+    }
+}
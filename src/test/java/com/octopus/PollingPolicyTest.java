@@ -0,0 +1,46 @@
+package com.octopus;
+
+import com.octopus.utils.PollingPolicy;
+import com.octopus.utils.impl.PollingPolicyImpl;
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+
+public class PollingPolicyTest {
+
+    @Test
+    public void intervalsBackOffExponentiallyUpToTheMaximum() {
+        final PollingPolicy pollingPolicy = new PollingPolicyImpl(25, 2, 1000, 0);
+        assertEquals(25, pollingPolicy.getIntervalMillis(1));
+        assertEquals(50, pollingPolicy.getIntervalMillis(2));
+        assertEquals(100, pollingPolicy.getIntervalMillis(3));
+        assertEquals(1000, pollingPolicy.getIntervalMillis(10));
+        assertEquals(1000, pollingPolicy.getIntervalMillis(100));
+    }
+
+    @Test
+    public void jitterStaysWithinBounds() {
+        final PollingPolicy pollingPolicy = new PollingPolicyImpl(100, 2, 1000, 0.2);
+        for (int i = 0; i < 1000; ++i) {
+            final long interval = pollingPolicy.getIntervalMillis(1);
+            assertTrue(interval >= 80 && interval <= 120);
+            assertTrue(pollingPolicy.getIntervalMillis(20) <= 1000);
+        }
+    }
+
+    @Test
+    public void statisticsSummariseTheWaits() {
+        final PollingPolicy pollingPolicy = new PollingPolicyImpl(25, 2, 1000, 0);
+        pollingPolicy.recordWait(1, 10, true);
+        pollingPolicy.recordWait(3, 30, true);
+        pollingPolicy.recordWait(5, 100, false);
+        assertEquals("3 waits, 2 satisfied, 3.0 polls per wait, 20ms average time to satisfy",
+                pollingPolicy.getStatistics());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidJitterIsRejected() {
+        new PollingPolicyImpl(25, 2, 1000, 1.5);
+    }
+}
@@ -0,0 +1,80 @@
+package com.octopus;
+
+import com.octopus.utils.ProxyRule;
+import com.octopus.utils.ProxyRules;
+import com.octopus.utils.impl.ProxyRulesImpl;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+
+public class ProxyRulesTest {
+
+    @Test
+    public void literalPrefixAndRegexRulesMatch() {
+        final ProxyRules<Integer> rules = new ProxyRulesImpl<>("Test");
+        rules.addRule("https://example\\.org/", 1);
+        rules.addRule("https://example\\.org/api/.*", 2);
+        rules.addRule(".*?\\.png", 3);
+
+        assertEquals(1, (int) rules.getFirstMatch("https://example.org/").map(ProxyRule::getAction).get());
+        assertEquals(2, (int) rules.getFirstMatch("https://example.org/api/users").map(ProxyRule::getAction).get());
+        assertEquals(3, (int) rules.getFirstMatch("https://example.org/logo.png").map(ProxyRule::getAction).get());
+        assertFalse(rules.getFirstMatch("https://example.org/index.html").isPresent());
+        assertFalse(rules.getFirstMatch("https://exampleXorg/").isPresent());
+    }
+
+    @Test
+    public void firstAndLastMatchFollowTheOrderRulesWereAdded() {
+        final ProxyRules<Integer> rules = new ProxyRulesImpl<>("Test");
+        rules.addRule(".*?\\.png", 1);
+        rules.addRule("https://example\\.org/.*", 2);
+        rules.addRule("https://example\\.org/logo\\.png", 3);
+
+        assertEquals(1, (int) rules.getFirstMatch("https://example.org/logo.png").map(ProxyRule::getAction).get());
+        assertEquals(3, (int) rules.getLastMatch("https://example.org/logo.png").map(ProxyRule::getAction).get());
+        assertEquals(2, (int) rules.getLastMatch("https://example.org/logo.gif").map(ProxyRule::getAction).get());
+    }
+
+    @Test
+    public void escapedWildcardsAreLiteral() {
+        final ProxyRules<Integer> rules = new ProxyRulesImpl<>("Test");
+        rules.addRule("https://example\\.org/\\.\\*", 1);
+        rules.addRule("https://octopus\\.com/\\.*", 2);
+
+        assertFalse(rules.getFirstMatch("https://example.org/index.html").isPresent());
+        assertEquals(1, (int) rules.getFirstMatch("https://example.org/.*").map(ProxyRule::getAction).get());
+        assertFalse(rules.getFirstMatch("https://octopus.com/index.html").isPresent());
+        assertEquals(2, (int) rules.getFirstMatch("https://octopus.com/..").map(ProxyRule::getAction).get());
+    }
+
+    @Test
+    public void rulesCanBeRemoved() {
+        final ProxyRules<Integer> rules = new ProxyRulesImpl<>("Test");
+        rules.addRule(".*?\\.png", 1);
+        rules.addRule("https://example\\.org/.*", 2);
+        rules.addRule(".*?\\.png", 3);
+
+        assertEquals(2, rules.removeRules(".*?\\.png"));
+        assertEquals(0, rules.removeRules(".*?\\.png"));
+        assertEquals(2, (int) rules.getFirstMatch("https://example.org/logo.png").map(ProxyRule::getAction).get());
+
+        rules.clear();
+        assertFalse(rules.getFirstMatch("https://example.org/logo.png").isPresent());
+    }
+
+    @Test
+    public void hitsAreCounted() {
+        final ProxyRules<Integer> rules = new ProxyRulesImpl<>("Test");
+        rules.addRule("https://example\\.org/.*", 1);
+
+        rules.getFirstMatch("https://example.org/a");
+        rules.getFirstMatch("https://example.org/b");
+        rules.getFirstMatch("https://octopus.com/");
+
+        final Optional<ProxyRule<Integer>> rule = rules.getRules().stream().findFirst();
+        assertEquals(2, rule.get().getHits());
+    }
+}
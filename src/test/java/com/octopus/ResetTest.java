@@ -0,0 +1,52 @@
+package com.octopus;
+
+import com.octopus.exceptions.BrowserException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static junit.framework.TestCase.fail;
+
+public class ResetTest {
+    private static final String BROWSER = "FirefoxNoImplicitWaitNoProxy";
+    private static final AutomatedBrowserFactory AUTOMATED_BROWSER_FACTORY = new AutomatedBrowserFactory();
+
+    @Test
+    public void resetKeepsFailingAfterVisitingTwoOrigins() throws IOException {
+        // localhost and 127.0.0.1 are different origins served by the same server
+        final HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/", exchange -> {
+            final byte[] body = "<html><body>Reset</body></html>".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+
+        final AutomatedBrowser automatedBrowser = AUTOMATED_BROWSER_FACTORY.getAutomatedBrowser(BROWSER);
+
+        try {
+            automatedBrowser.init();
+            automatedBrowser.goTo("http://localhost:" + server.getAddress().getPort() + "/");
+            automatedBrowser.goTo("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+
+            for (int i = 0; i < 2; ++i) {
+                try {
+                    automatedBrowser.reset();
+                    fail("The browser must not be reset after visiting two origins");
+                } catch (final BrowserException ex) {
+                    // expected
+                }
+            }
+        } finally {
+            automatedBrowser.destroy();
+            server.stop(0);
+        }
+    }
+}